@@ -0,0 +1,38 @@
+package com.tonyandrys.yahtzee.bench;
+
+/**
+ * com.tonyandrys.yahtzee.bench - Benchmark
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * A single measured hot path. Subclasses run the operation in their own loop so the harness adds no per-operation
+ * call overhead, and return a value derived from every result so the JIT cannot drop the work.
+ */
+public abstract class Benchmark {
+
+    private final String name;
+
+    protected Benchmark(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Prepares inputs. Called once before warmup; its allocations are not measured.
+     */
+    public void setUp() {
+    }
+
+    /**
+     * Runs the operation `ops` times.
+     * @return a value that depends on every result
+     */
+    public abstract long run(int ops);
+}
@@ -0,0 +1,121 @@
+package com.tonyandrys.yahtzee.bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * com.tonyandrys.yahtzee.bench - BenchmarkRunner
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Minimal JMH-style harness for the engine hot paths. Each benchmark is warmed up, then measured over several timed
+ * iterations. It reports the mean time per operation and, like JMH's GC profiler, the bytes allocated per operation
+ * and the allocation rate (HotSpot's per-thread allocation counter).
+ *
+ * The benchmarks run on a desktop JVM against the engine classes, which have no Android dependencies:
+ *
+ *   javac -d out src/com/tonyandrys/yahtzee/engine/*.java src/com/tonyandrys/yahtzee/solver/*.java \
+ *         src/com/tonyandrys/yahtzee/sim/*.java src/com/tonyandrys/yahtzee/GameFrame.java \
+ *         headless/com/tonyandrys/yahtzee/BuildConfig.java bench/com/tonyandrys/yahtzee/bench/*.java
+ *   java -cp out com.tonyandrys.yahtzee.bench.BenchmarkRunner [name filter]
+ */
+public class BenchmarkRunner {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 5;
+    private static final long ITERATION_NANOS = 1000000000L;
+
+    // Results are folded into this field so they are never dead code.
+    static volatile long sink;
+
+    private final com.sun.management.ThreadMXBean threads;
+
+    public BenchmarkRunner() {
+        threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    public static List<Benchmark> allBenchmarks() {
+        List<Benchmark> benchmarks = new ArrayList<Benchmark>();
+        benchmarks.addAll(EngineBenchmarks.all());
+        return benchmarks;
+    }
+
+    /**
+     * Warms up and measures a benchmark, then prints one result line.
+     */
+    public void measure(Benchmark benchmark) {
+        benchmark.setUp();
+
+        // Find an op count that takes roughly a tenth of an iteration, then warm up with it.
+        int ops = 1;
+        while (true) {
+            long start = System.nanoTime();
+            sink += benchmark.run(ops);
+            if (System.nanoTime() - start > ITERATION_NANOS / 10 || ops >= (1 << 30)) {
+                break;
+            }
+            ops *= 2;
+        }
+        for (int i=0; i<WARMUP_ITERATIONS; i++) {
+            runIteration(benchmark, ops);
+        }
+
+        double[] nanosPerOp = new double[MEASURED_ITERATIONS];
+        double bytesPerOp = 0;
+        double bytesPerSecond = 0;
+        for (int i=0; i<MEASURED_ITERATIONS; i++) {
+            long threadId = Thread.currentThread().getId();
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            long totalOps = runIteration(benchmark, ops);
+            long elapsed = System.nanoTime() - start;
+            long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+            nanosPerOp[i] = (double)elapsed / totalOps;
+            bytesPerOp += (double)allocated / totalOps / MEASURED_ITERATIONS;
+            bytesPerSecond += allocated * 1e9 / elapsed / MEASURED_ITERATIONS;
+        }
+
+        double mean = 0;
+        for (double n : nanosPerOp) {
+            mean += n / MEASURED_ITERATIONS;
+        }
+        double variance = 0;
+        for (double n : nanosPerOp) {
+            variance += (n - mean) * (n - mean) / MEASURED_ITERATIONS;
+        }
+
+        System.out.println(String.format("%-40s %12.2f ns/op  +- %8.2f   %10.1f B/op   %9.2f MB/s alloc",
+                benchmark.getName(), mean, Math.sqrt(variance), bytesPerOp, bytesPerSecond / (1024 * 1024)));
+    }
+
+    /**
+     * Runs batches of `ops` operations for one iteration.
+     * @return total operations run
+     */
+    private long runIteration(Benchmark benchmark, int ops) {
+        long total = 0;
+        long start = System.nanoTime();
+        do {
+            sink += benchmark.run(ops);
+            total += ops;
+        } while (System.nanoTime() - start < ITERATION_NANOS);
+        return total;
+    }
+
+    public static void main(String[] args) {
+        String filter = (args.length > 0) ? args[0] : "";
+        BenchmarkRunner runner = new BenchmarkRunner();
+        for (Benchmark benchmark : allBenchmarks()) {
+            if (benchmark.getName().contains(filter)) {
+                runner.measure(benchmark);
+            }
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package com.tonyandrys.yahtzee.bench;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.DiceRng;
+import com.tonyandrys.yahtzee.engine.HandTable;
+import com.tonyandrys.yahtzee.engine.JavaDiceRng;
+import com.tonyandrys.yahtzee.engine.LatencyRecorder;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+import com.tonyandrys.yahtzee.engine.ScoreManager;
+import com.tonyandrys.yahtzee.engine.SplitMix64;
+import com.tonyandrys.yahtzee.engine.Xoroshiro128;
+import com.tonyandrys.yahtzee.sim.GreedyStrategy;
+import com.tonyandrys.yahtzee.sim.Simulator;
+import com.tonyandrys.yahtzee.sim.Strategy;
+import com.tonyandrys.yahtzee.solver.CategoryOdds;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * com.tonyandrys.yahtzee.bench - EngineBenchmarks
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Benchmarks of the scoring, rolling and scorecard hot paths, plus a full headless game.
+ */
+public class EngineBenchmarks {
+
+    // Number of pre-rolled hands cycled through by the scoring benchmarks
+    private static final int HAND_COUNT = 1024;
+
+    private EngineBenchmarks() {
+    }
+
+    public static List<Benchmark> all() {
+        List<Benchmark> benchmarks = new ArrayList<Benchmark>();
+        benchmarks.add(new HandIndexBenchmark());
+        benchmarks.add(new HandLookupBenchmark());
+        benchmarks.add(new CalculateHandBenchmark());
+        benchmarks.add(new RandomNextIntBenchmark());
+        benchmarks.add(new RollIntoBenchmark("JavaDiceRng", new JavaDiceRng(new Random(4L))));
+        benchmarks.add(new RollIntoBenchmark("SplitMix64", new SplitMix64(4L)));
+        benchmarks.add(new RollIntoBenchmark("Xoroshiro128", new Xoroshiro128(4L)));
+        benchmarks.add(new RollDiceBenchmark(0x00));
+        benchmarks.add(new RollDiceBenchmark(0x07));
+        benchmarks.add(new RollDiceBenchmark(0x1E));
+        benchmarks.add(new RollDiceBenchmark(0x1F));
+        benchmarks.add(new SetPlayerScoreBenchmark());
+        benchmarks.add(new CategoryOddsBenchmark());
+        benchmarks.add(new LatencyRecordBenchmark());
+        benchmarks.add(new GameBenchmark());
+        return benchmarks;
+    }
+
+    private static int[][] randomHands() {
+        SplitMix64 r = new SplitMix64(1L);
+        int[][] hands = new int[HAND_COUNT][Board.DICE_COUNT];
+        for (int[] hand : hands) {
+            for (int i=0; i<Board.DICE_COUNT; i++) {
+                hand[i] = r.rollDie();
+            }
+        }
+        return hands;
+    }
+
+    /**
+     * Encoding a hand into its HandTable index.
+     */
+    static class HandIndexBenchmark extends Benchmark {
+        private int[][] hands;
+
+        HandIndexBenchmark() {
+            super("HandTable.indexOf");
+        }
+
+        @Override
+        public void setUp() {
+            hands = randomHands();
+        }
+
+        @Override
+        public long run(int ops) {
+            long result = 0;
+            for (int i=0; i<ops; i++) {
+                result += HandTable.indexOf(hands[i & (HAND_COUNT - 1)]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Reading all 13 category scores of an encoded hand.
+     */
+    static class HandLookupBenchmark extends Benchmark {
+        private int[] handIndexes;
+
+        HandLookupBenchmark() {
+            super("HandTable.getScore x13");
+        }
+
+        @Override
+        public void setUp() {
+            int[][] hands = randomHands();
+            handIndexes = new int[HAND_COUNT];
+            for (int i=0; i<HAND_COUNT; i++) {
+                handIndexes[i] = HandTable.indexOf(hands[i]);
+            }
+        }
+
+        @Override
+        public long run(int ops) {
+            long result = 0;
+            for (int i=0; i<ops; i++) {
+                int handIndex = handIndexes[i & (HAND_COUNT - 1)];
+                for (int field=0; field<ScoreCard.NUMBER_OF_FIELDS; field++) {
+                    result += HandTable.getScore(handIndex, field);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * ScoreManager.calculateHand: encode, availability checks and lookups for every field.
+     */
+    static class CalculateHandBenchmark extends Benchmark {
+        private int[][] hands;
+        private ScoreManager scoreManager;
+
+        CalculateHandBenchmark() {
+            super("ScoreManager.calculateHand");
+        }
+
+        @Override
+        public void setUp() {
+            hands = randomHands();
+            scoreManager = new ScoreManager();
+            scoreManager.writeScore(ScoreCard.SCORE_FIELD_THREES, 9);
+            scoreManager.writeScore(ScoreCard.SCORE_FIELD_FULL_HOUSE, 25);
+        }
+
+        @Override
+        public long run(int ops) {
+            long result = 0;
+            for (int i=0; i<ops; i++) {
+                scoreManager.calculateHand(hands[i & (HAND_COUNT - 1)]);
+                result += scoreManager.getHandScores()[ScoreCard.SCORE_FIELD_CHANCE];
+            }
+            return result;
+        }
+    }
+
+    /**
+     * CategoryOdds.query for random holds and rolls left, once every (keep, rolls left) pair is memoized.
+     */
+    static class CategoryOddsBenchmark extends Benchmark {
+        private int[][] hands;
+        private CategoryOdds odds;
+
+        CategoryOddsBenchmark() {
+            super("CategoryOdds.query");
+        }
+
+        @Override
+        public void setUp() {
+            hands = randomHands();
+            odds = new CategoryOdds();
+        }
+
+        @Override
+        public long run(int ops) {
+            long result = 0;
+            for (int i=0; i<ops; i++) {
+                double[] o = odds.query(hands[i & (HAND_COUNT - 1)], i & 0x1F, 1 + (i % 3));
+                result += (long)(CategoryOdds.getScoringProbability(o, ScoreCard.SCORE_FIELD_LG_STRAIGHT) * 1000);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Five dice rolled the way Die used to roll them: one java.util.Random.nextInt(6) per die.
+     */
+    static class RandomNextIntBenchmark extends Benchmark {
+        private Random r;
+        private int[] dice;
+
+        RandomNextIntBenchmark() {
+            super("Random.nextInt(6) x5");
+        }
+
+        @Override
+        public void setUp() {
+            r = new Random(4L);
+            dice = new int[Board.DICE_COUNT];
+        }
+
+        @Override
+        public long run(int ops) {
+            long result = 0;
+            for (int i=0; i<ops; i++) {
+                for (int d=0; d<Board.DICE_COUNT; d++) {
+                    dice[d] = r.nextInt(6) + 1;
+                }
+                result += dice[0];
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Five dice rolled in bulk by a DiceRng.
+     */
+    static class RollIntoBenchmark extends Benchmark {
+        private final DiceRng rng;
+        private int[] dice;
+
+        RollIntoBenchmark(String name, DiceRng rng) {
+            super(name + ".rollInto x5");
+            this.rng = rng;
+        }
+
+        @Override
+        public void setUp() {
+            dice = new int[Board.DICE_COUNT];
+        }
+
+        @Override
+        public long run(int ops) {
+            long result = 0;
+            for (int i=0; i<ops; i++) {
+                rng.rollInto(dice, 0);
+                result += dice[0];
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Board.rollDice with a fixed set of held dice.
+     */
+    static class RollDiceBenchmark extends Benchmark {
+        private final int holdMask;
+        private Board board;
+
+        RollDiceBenchmark(int holdMask) {
+            super("Board.rollDice hold=" + Integer.toBinaryString(holdMask | 0x20).substring(1));
+            this.holdMask = holdMask;
+        }
+
+        @Override
+        public void setUp() {
+            board = new Board(new SplitMix64(2L));
+            for (int i=0; i<Board.DICE_COUNT; i++) {
+                board.holdDie(i, (holdMask & (1 << i)) != 0);
+            }
+        }
+
+        @Override
+        public long run(int ops) {
+            long result = 0;
+            for (int i=0; i<ops; i++) {
+                board.rollDice();
+                result += board.getDieValue(0);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Filling all 13 fields of a new ScoreCard, which crosses the upper bonus threshold and records a Yahtzee.
+     * The op includes constructing the ScoreCard.
+     */
+    static class SetPlayerScoreBenchmark extends Benchmark {
+        private static final int[] SCORES = {3, 6, 9, 12, 15, 18, 20, 24, 25, 30, 40, 50, 22};
+
+        SetPlayerScoreBenchmark() {
+            super("ScoreCard.setPlayerScore x13");
+        }
+
+        @Override
+        public long run(int ops) {
+            long result = 0;
+            for (int i=0; i<ops; i++) {
+                ScoreCard card = new ScoreCard();
+                for (int field=0; field<ScoreCard.NUMBER_OF_FIELDS; field++) {
+                    card.setPlayerScore(field, SCORES[field]);
+                }
+                result += card.getTotalScore();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Timing one phase into a LatencyRecorder, which is the cost the instrumentation adds to each phase of a roll.
+     */
+    static class LatencyRecordBenchmark extends Benchmark {
+        private LatencyRecorder latency;
+
+        LatencyRecordBenchmark() {
+            super("LatencyRecorder.record");
+        }
+
+        @Override
+        public void setUp() {
+            latency = new LatencyRecorder();
+        }
+
+        @Override
+        public long run(int ops) {
+            long start = System.nanoTime();
+            for (int i=0; i<ops; i++) {
+                start = latency.record(LatencyRecorder.ROLL_RNG, start);
+            }
+            return start;
+        }
+    }
+
+    /**
+     * A complete 13 round headless game played by the GreedyStrategy.
+     */
+    static class GameBenchmark extends Benchmark {
+        private Strategy strategy;
+        private SplitMix64 r;
+
+        GameBenchmark() {
+            super("Game (greedy, headless)");
+        }
+
+        @Override
+        public void setUp() {
+            strategy = GreedyStrategy.FACTORY.newStrategy();
+            r = new SplitMix64(3L);
+        }
+
+        @Override
+        public long run(int ops) {
+            long result = 0;
+            for (int i=0; i<ops; i++) {
+                result += Simulator.playGame(strategy, r).getScoreCard().getTotalScore();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.tonyandrys.yahtzee.bench;
+
+import com.tonyandrys.yahtzee.GameFrame;
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.Game;
+import com.tonyandrys.yahtzee.engine.LatencyRecorder;
+import com.tonyandrys.yahtzee.engine.SplitMix64;
+import com.tonyandrys.yahtzee.sim.GreedyStrategy;
+import com.tonyandrys.yahtzee.sim.Strategy;
+
+/**
+ * com.tonyandrys.yahtzee.bench - LatencyHarness
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Plays headless games through the same roll and score commands GameActivity runs on its game thread, timing them
+ * into a LatencyRecorder, and checks the p99 of each phase against a budget. It needs no device or emulator, so CI can
+ * run it on a desktop JVM. Only the game thread phases are measured: the RNG, calculateHand(), scoreField() and the
+ * GameFrame copies, without the snapshot and journal writes the app queues. The UI phases need a device, where a long
+ * press on the roll button dumps them.
+ *
+ *   javac -d out src/com/tonyandrys/yahtzee/engine/*.java src/com/tonyandrys/yahtzee/solver/*.java \
+ *         src/com/tonyandrys/yahtzee/sim/*.java src/com/tonyandrys/yahtzee/GameFrame.java \
+ *         headless/com/tonyandrys/yahtzee/BuildConfig.java bench/com/tonyandrys/yahtzee/bench/*.java
+ *   java -cp out com.tonyandrys.yahtzee.bench.LatencyHarness [games] [phase=p99 budget in us ...]
+ *
+ * For example "LatencyHarness 5000 roll.rng=20 score.field=50" fails if either phase's p99 is over budget. It exits
+ * with status 1 if any budget is exceeded.
+ */
+public class LatencyHarness {
+
+    private static final int DEFAULT_GAMES = 2000;
+
+    // Games played before measuring, so the JIT has compiled the paths being timed
+    private static final int WARMUP_GAMES = 2000;
+
+    public static void main(String[] args) {
+        int games = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+
+        LatencyRecorder latency = new LatencyRecorder();
+        Strategy strategy = GreedyStrategy.FACTORY.newStrategy();
+        SplitMix64 r = new SplitMix64(4L);
+        long result = 0;
+        for (int i=0; i<WARMUP_GAMES; i++) {
+            result += playGame(strategy, r, latency);
+        }
+        latency.reset();
+        for (int i=0; i<games; i++) {
+            result += playGame(strategy, r, latency);
+        }
+        BenchmarkRunner.sink += result;
+        System.out.print(latency);
+
+        boolean failed = false;
+        for (int i=1; i<args.length; i++) {
+            String[] budget = args[i].split("=");
+            int phase = findPhase(budget[0]);
+            if (budget.length != 2 || phase < 0) {
+                throw new IllegalArgumentException("Budgets must be phase=micros! Received: " + args[i]);
+            }
+            long p99 = latency.getHistogram(phase).getValueAtPercentile(99);
+            long budgetNanos = Long.parseLong(budget[1]) * 1000L;
+            if (p99 > budgetNanos) {
+                System.out.println("Over budget: " + budget[0] + " p99 " + (p99 / 1000.0) + " us > " + budget[1] + " us");
+                failed = true;
+            }
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Plays one game like Simulator.playGame(), copying a GameFrame after every roll and score as GameActivity does.
+     * @return the final score, so the work is never dead code
+     */
+    private static long playGame(Strategy strategy, SplitMix64 r, LatencyRecorder latency) {
+        Game game = new Game(r);
+        game.setLatencyRecorder(latency);
+        long result = 0;
+        while (!game.isGameOver()) {
+            game.rollDice();
+            result += copyFrame(game, latency, LatencyRecorder.ROLL_FRAME);
+            while (game.canRoll()) {
+                int holdMask = strategy.chooseHold(game);
+                if (holdMask == Strategy.HOLD_ALL) {
+                    break;
+                }
+                for (int i=0; i<Board.DICE_COUNT; i++) {
+                    game.holdDie(i, (holdMask & (1 << i)) != 0);
+                }
+                game.rollDice();
+                result += copyFrame(game, latency, LatencyRecorder.ROLL_FRAME);
+            }
+            game.scoreField(strategy.chooseField(game));
+            result += copyFrame(game, latency, LatencyRecorder.SCORE_SAVE);
+        }
+        return result + game.getScoreCard().getTotalScore();
+    }
+
+    private static long copyFrame(Game game, LatencyRecorder latency, int phase) {
+        long start = System.nanoTime();
+        GameFrame frame = GameFrame.of(game);
+        latency.record(phase, start);
+        return frame.snapshot.length;
+    }
+
+    private static int findPhase(String name) {
+        for (int i=0; i<LatencyRecorder.PHASE_COUNT; i++) {
+            if (LatencyRecorder.getPhaseName(i).equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
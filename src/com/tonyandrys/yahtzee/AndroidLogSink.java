@@ -0,0 +1,30 @@
+package com.tonyandrys.yahtzee;
+
+import android.util.Log;
+
+import com.tonyandrys.yahtzee.engine.GameLog;
+
+/**
+ * com.tonyandrys.yahtzee - AndroidLogSink
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Writes GameLog messages to logcat. GameLog.LEVEL already strips the levels a build does not log: debug builds log
+ * every level, and release builds only WARN and ERROR. So every message that reaches the sink is written.
+ */
+public class AndroidLogSink implements GameLog.Sink {
+
+    @Override
+    public boolean isLoggable(int level, String tag) {
+        return true;
+    }
+
+    @Override
+    public void println(int level, String tag, String message) {
+        Log.println(level, tag, message);
+    }
+}
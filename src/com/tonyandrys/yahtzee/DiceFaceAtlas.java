@@ -0,0 +1,77 @@
+package com.tonyandrys.yahtzee;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.graphics.Rect;
+
+/**
+ * com.tonyandrys.yahtzee - DiceFaceAtlas
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * All six die faces packed side by side into a single Bitmap sheet, face n at column (n - 1).
+ *
+ * The face resources are decoded once when the atlas is built and released afterwards, so the sheet is the only copy
+ * of the dice graphics in memory. Faces are decoded at their native size rather than scaled to the screen density;
+ * DieFaceDrawable scales them to each view's bounds while drawing. One atlas is shared by the whole process through
+ * UITable.
+ */
+public class DiceFaceAtlas {
+
+    // Drawable resource of each die face, indexed by (value - 1)
+    private static final int[] DIE_FACE_RES_IDS = {R.drawable.diceface_1, R.drawable.diceface_2, R.drawable.diceface_3, R.drawable.diceface_4, R.drawable.diceface_5, R.drawable.diceface_6};
+
+    public static final int FACE_COUNT = 6;
+
+    private final Bitmap sheet;
+    private final int faceWidth;
+    private final int faceHeight;
+
+    public DiceFaceAtlas(Resources resources) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inScaled = false;
+        options.inPreferredConfig = Bitmap.Config.ARGB_8888;
+
+        Bitmap face = BitmapFactory.decodeResource(resources, DIE_FACE_RES_IDS[0], options);
+        faceWidth = face.getWidth();
+        faceHeight = face.getHeight();
+        sheet = Bitmap.createBitmap(faceWidth * FACE_COUNT, faceHeight, Bitmap.Config.ARGB_8888);
+
+        // Copy each face into its column of the sheet, then drop the decoded face.
+        Canvas canvas = new Canvas(sheet);
+        for (int i=0; i<FACE_COUNT; i++) {
+            if (i > 0) {
+                face = BitmapFactory.decodeResource(resources, DIE_FACE_RES_IDS[i], options);
+            }
+            canvas.drawBitmap(face, null, new Rect(i * faceWidth, 0, (i + 1) * faceWidth, faceHeight), null);
+            face.recycle();
+        }
+    }
+
+    public Bitmap getSheet() {
+        return sheet;
+    }
+
+    public int getFaceWidth() {
+        return faceWidth;
+    }
+
+    public int getFaceHeight() {
+        return faceHeight;
+    }
+
+    /**
+     * Writes the region of the sheet that holds a face to an existing Rect.
+     * @param value die value from 1 to 6
+     * @param bounds Rect to receive the face's region of the sheet
+     */
+    public void getFaceBounds(int value, Rect bounds) {
+        bounds.set((value - 1) * faceWidth, 0, value * faceWidth, faceHeight);
+    }
+}
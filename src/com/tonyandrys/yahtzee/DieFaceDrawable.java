@@ -0,0 +1,88 @@
+package com.tonyandrys.yahtzee;
+
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.Paint;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+
+/**
+ * com.tonyandrys.yahtzee - DieFaceDrawable
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Draws one face of a DiceFaceAtlas. Each die's ImageView keeps a single DieFaceDrawable for its whole lifetime and
+ * changes faces with setValue(), which only moves the source region within the shared sheet. Nothing is looked up or
+ * allocated when a die is rolled.
+ */
+public class DieFaceDrawable extends Drawable {
+
+    private final DiceFaceAtlas atlas;
+    private final Rect faceBounds;
+    private final Paint paint;
+    private int value;
+
+    /**
+     * Creates a drawable showing the face of a 1, like the dice in game_layout before the first roll.
+     */
+    public DieFaceDrawable(DiceFaceAtlas atlas) {
+        this.atlas = atlas;
+        this.faceBounds = new Rect();
+        this.paint = new Paint(Paint.FILTER_BITMAP_FLAG);
+        this.value = 0;
+        setValue(1);
+    }
+
+    /**
+     * Shows a different face. Redraws only if the face changed.
+     * @param value die value from 1 to 6
+     */
+    public void setValue(int value) {
+        if (value != this.value) {
+            this.value = value;
+            atlas.getFaceBounds(value, faceBounds);
+            invalidateSelf();
+        }
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    @Override
+    public void draw(Canvas canvas) {
+        canvas.drawBitmap(atlas.getSheet(), faceBounds, getBounds(), paint);
+    }
+
+    @Override
+    public int getIntrinsicWidth() {
+        return atlas.getFaceWidth();
+    }
+
+    @Override
+    public int getIntrinsicHeight() {
+        return atlas.getFaceHeight();
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        paint.setAlpha(alpha);
+        invalidateSelf();
+    }
+
+    @Override
+    public void setColorFilter(ColorFilter colorFilter) {
+        paint.setColorFilter(colorFilter);
+        invalidateSelf();
+    }
+
+    @Override
+    public int getOpacity() {
+        return PixelFormat.TRANSLUCENT;
+    }
+}
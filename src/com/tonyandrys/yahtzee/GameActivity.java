@@ -1,57 +1,124 @@
 package com.tonyandrys.yahtzee;
 
 import android.app.Activity;
-import android.graphics.drawable.Drawable;
 import android.os.Bundle;
-import android.util.Log;
+import android.os.SystemClock;
+import android.view.Menu;
+import android.view.MenuItem;
 import android.view.View;
+import android.view.ViewTreeObserver;
 import android.widget.Button;
 import android.widget.FrameLayout;
 import android.widget.ImageView;
 import android.widget.TextView;
-
+import android.widget.Toast;
+
+import com.tonyandrys.yahtzee.bot.Bot;
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.DiceRng;
+import com.tonyandrys.yahtzee.engine.Game;
+import com.tonyandrys.yahtzee.engine.GameEventLog;
+import com.tonyandrys.yahtzee.engine.GameLog;
+import com.tonyandrys.yahtzee.engine.GameSnapshot;
+import com.tonyandrys.yahtzee.engine.LatencyRecorder;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+import com.tonyandrys.yahtzee.solver.CategoryOdds;
+
+import java.io.IOException;
 import java.util.*;
-
+import java.util.concurrent.Callable;
+
+/**
+ * The single player game screen.
+ *
+ * The Game is owned by the TaskScheduler's game thread: every roll, hold and score is a command run there, and the UI
+ * thread only reads the GameFrame each command hands back. Saving, journaling and recording a finished game happen in
+ * those commands too, so a click handler never does more than send a command and draw the frame that comes back.
+ */
 public class GameActivity extends Activity {
 
-    private final String TAG = GameActivity.class.getName();
+    private static final String TAG = GameActivity.class.getSimpleName();
+
+    // Number of recent game events kept for diagnostics
+    private static final int EVENT_LOG_CAPACITY = 256;
+
+    // Bundle key of the GameSnapshot saved in onSaveInstanceState
+    private static final String STATE_GAME_SNAPSHOT = "game_snapshot";
+
+    // Dice generator every game rolls with. It must be seedable, so journaled games can be replayed.
+    private static final byte DICE_RNG_ALGORITHM = DiceRng.ALGORITHM_XOROSHIRO128;
+
     SoundManager soundManager;
-    ScoreManager scoreManager;
+    ScorePadBinder scorePad;
     ArrayList<ImageView> diceViews;
+    DieFaceDrawable[] dieFaces;
     HashSet<Integer> availableScoreIDs;
-    Board board;
-    int rollCount;
-    int roundCount;
+    SnapshotStore snapshotStore;
+    JournalStore journalStore;
+    GameHistoryStore historyStore;
+    TaskScheduler scheduler;
+    LatencyRecorder latency;
+
+    // Commands that change the game, and odds computed for the player
+    TaskScheduler.Channel gameChannel;
+    TaskScheduler.Channel oddsChannel;
+
+    // Only touched on the game thread
+    Game game;
+    // When play time was last added to the game, in SystemClock.elapsedRealtime() ms
+    long playTimeMark;
+
+    // Only touched on the compute pool, while holding oddsLock
+    CategoryOdds categoryOdds;
+    final Object oddsLock = new Object();
+
+    // Latest frame from the game thread, null until the game is loaded
+    GameFrame frame;
+    // Dice the player holds. Holds are sent to the game thread as they are toggled, so this runs ahead of the frame.
+    int holdMask;
+    // True while a roll or score is waiting for its frame. Input is ignored until it arrives.
+    boolean waiting;
 
     @Override
     public void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.game_layout);
 
-        // Initialize game board, SoundManager, and dice view holder
-        board = new Board(this, new Random());
+        // Initialize the SoundManager and dice view holder
         soundManager = new SoundManager(this);
         diceViews = new ArrayList<ImageView>();
         int[] scoreResIDs = {R.id.ones_value_textview, R.id.twos_value_textview, R.id.threes_value_textview, R.id.fours_value_textview, R.id.fives_value_textview, R.id.sixes_value_textview, R.id.three_of_a_kind_value_textview, R.id.four_of_a_kind_value_textview, R.id.full_house_value_textview, R.id.sm_straight_value_textview, R.id.lg_straight_value_textview, R.id.yahtzee_value_textview, R.id.chance_value_textview};
 
         // Build key -> TextView lookup table for ScoreFields and store it in UITable
         HashMap<Integer, Integer> tvLookupTable = new HashMap<Integer, Integer>();
-        Log.v(TAG, "Building key -> TextView Lookup Table");
+        if (GameLog.V) GameLog.v(TAG, "Building key -> TextView Lookup Table");
         for (int i=0; i<scoreResIDs.length; i++) {
             tvLookupTable.put(i, scoreResIDs[i]);
-            Log.v(TAG, i + " -> " + scoreResIDs[i]);
+            if (GameLog.V) GameLog.v(TAG, "{} -> {}", i, scoreResIDs[i]);
         }
         UITable uiTable = ((UITable)getApplicationContext());
         uiTable.setScoreTable(tvLookupTable);
 
-        // Initialize ScoreManager to set score to zero
-        scoreManager = new ScoreManager(this);
+        snapshotStore = uiTable.getSnapshotStore();
+        journalStore = uiTable.getJournalStore();
+        historyStore = uiTable.getGameHistoryStore();
+        scheduler = uiTable.getTaskScheduler();
+        latency = uiTable.getLatencyRecorder();
+        gameChannel = scheduler.newChannel("game");
+        oddsChannel = scheduler.newChannel("odds");
+
+        // Bind the scorepad TextViews to the player's ScoreCard
+        scorePad = new ScorePadBinder(this);
 
-        // Apply dieTouchListener to Dice ImageViews and add to master list
+        // Apply dieTouchListener to Dice ImageViews and add to master list. Each die draws its faces from the shared atlas.
+        DiceFaceAtlas atlas = uiTable.getDiceFaceAtlas();
+        dieFaces = new DieFaceDrawable[Board.DICE_COUNT];
         int[] resIds = {R.id.die_1_imageview, R.id.die_2_imageview, R.id.die_3_imageview, R.id.die_4_imageview, R.id.die_5_imageview};
         for (int i=0; i<=4; i++) {
             ImageView die = (ImageView)findViewById(resIds[i]);
             die.setOnClickListener(new dieTouchListener());
+            dieFaces[i] = new DieFaceDrawable(atlas);
+            die.setImageDrawable(dieFaces[i]);
             diceViews.add(die);
         }
 
@@ -59,6 +126,7 @@ public class GameActivity extends Activity {
         for (int i=0; i<scoreResIDs.length; i++) {
             TextView tv = (TextView)findViewById(scoreResIDs[i]);
             tv.setOnClickListener(new scoreTouchListener());
+            tv.setOnLongClickListener(new scoreOddsListener());
             tv.setVisibility(View.VISIBLE);
             //availableScoreIDs.add(scoreResIDs[i]);
         }
@@ -73,62 +141,320 @@ public class GameActivity extends Activity {
             }
         });
 
-        // Die click listener
-        ImageView die = (ImageView)findViewById(R.id.die_1_imageview);
-        die.setOnClickListener(new dieTouchListener());
+        // A long press dumps the timings of every roll and score to the log, to check latency budgets on a device
+        rollDiceButton.setOnLongClickListener(new View.OnLongClickListener() {
+            @Override
+            public boolean onLongClick(View v) {
+                latency.dump();
+                Toast.makeText(GameActivity.this, LatencyRecorder.getPhaseName(LatencyRecorder.ROLL_TO_FIRST_FRAME) + ": "
+                        + latency.getHistogram(LatencyRecorder.ROLL_TO_FIRST_FRAME), Toast.LENGTH_LONG).show();
+                return true;
+            }
+        });
+
+        // Nothing can be played until the game thread has loaded the game.
+        rollDiceButton.setEnabled(false);
+        final byte[] savedSnapshot = (savedInstanceState != null) ? savedInstanceState.getByteArray(STATE_GAME_SNAPSHOT) : null;
+        scheduler.execute(gameChannel, new Callable<GameFrame>() {
+            @Override
+            public GameFrame call() {
+                loadGame(savedSnapshot);
+                return GameFrame.of(game);
+            }
+        }, new TaskScheduler.Callback<GameFrame>() {
+            @Override
+            public void onResult(GameFrame result) {
+                // Show the state of a resumed game
+                frame = result;
+                holdMask = result.holdMask;
+                showGame();
+            }
+
+            @Override
+            public void onError(Exception e) {
+                // There is no game to show, so leave the screen rather than show one that cannot be played.
+                Toast.makeText(GameActivity.this, "The game could not be loaded.", Toast.LENGTH_LONG).show();
+                finish();
+            }
+        });
+    }
+
+    @Override
+    public boolean onCreateOptionsMenu(Menu menu) {
+        getMenuInflater().inflate(R.menu.game_menu, menu);
+        return true;
+    }
+
+    /**
+     * Starts a multiplayer game: two players passing the device, or the player against a bot. The single player game
+     * stays saved and resumes when the player comes back.
+     */
+    @Override
+    public boolean onOptionsItemSelected(MenuItem item) {
+        switch (item.getItemId()) {
+            case R.id.menu_pass_and_play:
+                startActivity(MultiplayerActivity.newIntent(this,
+                        new String[] {getString(R.string.player_one), getString(R.string.player_two)},
+                        new int[] {MultiplayerActivity.HUMAN, MultiplayerActivity.HUMAN}));
+                return true;
+            case R.id.menu_play_bot:
+                startActivity(MultiplayerActivity.newIntent(this,
+                        new String[] {getString(R.string.player_you), getString(R.string.player_bot)},
+                        new int[] {MultiplayerActivity.HUMAN, Bot.STRENGTH_HEURISTIC}));
+                return true;
+            case R.id.menu_play_optimal_bot:
+                startActivity(MultiplayerActivity.newIntent(this,
+                        new String[] {getString(R.string.player_you), getString(R.string.player_bot)},
+                        new int[] {MultiplayerActivity.HUMAN, Bot.STRENGTH_OPTIMAL}));
+                return true;
+            default:
+                return super.onOptionsItemSelected(item);
+        }
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        final long now = SystemClock.elapsedRealtime();
+        scheduler.execute(gameChannel, new Callable<Void>() {
+            @Override
+            public Void call() {
+                playTimeMark = now;
+                return null;
+            }
+        }, null);
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        // Time away from the game is not play time, so save what has been played so far
+        final long now = SystemClock.elapsedRealtime();
+        scheduler.execute(gameChannel, new Callable<Void>() {
+            @Override
+            public Void call() {
+                // Nothing to save if the game failed to load
+                if (game == null) {
+                    return null;
+                }
+                addPlayTime(now);
+                if (!game.isGameOver()) {
+                    snapshotStore.save(GameSnapshot.encode(game));
+                }
+                return null;
+            }
+        }, null);
+    }
+
+    @Override
+    protected void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+        // The frame's snapshot is as of the last roll or score. The save queued by onPause also has the play time since.
+        if (frame != null) {
+            outState.putByteArray(STATE_GAME_SNAPSHOT, frame.snapshot);
+        }
+    }
 
-        // Start the first round and set the turn count to 3.
-        rollCount = 3;
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        soundManager.release();
+        scheduler.cancel(gameChannel);
+        scheduler.cancel(oddsChannel);
+        scheduler.execute(gameChannel, new Callable<Void>() {
+            @Override
+            public Void call() {
+                if (game == null) {
+                    return null;
+                }
+                journalStore.close(game.getJournal());
+                return null;
+            }
+        }, null);
+    }
 
-        // A game of yahtzee consists of 13 rounds
-        roundCount = 13;
+    /**
+     * Resumes the saved game if there is one, otherwise starts a new game. Either way the game rolls with a freshly
+     * seeded DiceRng whose seed is journaled, so the game can be replayed. Runs on the game thread.
+     * @param savedSnapshot snapshot saved by onSaveInstanceState, or null
+     */
+    private void loadGame(byte[] savedSnapshot) {
+        long seed = new Random().nextLong();
+        byte[] snapshot = loadSnapshot(savedSnapshot);
+        game = resumeGame(snapshot, seed);
+        if (game != null) {
+            game.setJournal(journalStore.resume(DICE_RNG_ALGORITHM, seed, snapshot));
+        } else {
+            game = new Game(DiceRng.create(DICE_RNG_ALGORITHM, seed));
+            game.setJournal(journalStore.begin(DICE_RNG_ALGORITHM, seed));
+        }
+        if (GameLog.EVENTS) {
+            game.setEventLog(new GameEventLog(EVENT_LOG_CAPACITY));
+        }
+        game.setLatencyRecorder(latency);
+        playTimeMark = SystemClock.elapsedRealtime();
     }
 
     /**
-     * Starts the next turn by rolling all un-held dice and updating their face values.
+     * Adds the time played since the last mark to the game, unless the game is already over. Runs on the game thread.
+     */
+    private void addPlayTime(long now) {
+        if (!game.isGameOver()) {
+            game.addPlayTime(now - playTimeMark);
+        }
+        playTimeMark = now;
+    }
+
+    /**
+     * Starts the next turn by rolling all un-held dice on the game thread, then shows the new hand.
      */
     public void nextTurn() {
+        if (frame == null || waiting || !frame.canRoll) {
+            return;
+        }
 
-        // Roll all unheld dice
-        board.rollDice();
+        // The roll button stays disabled until the new hand is shown, so a second tap cannot queue another roll.
+        final long tapNanos = System.nanoTime();
+        waiting = true;
+        findViewById(R.id.roll_dice_button).setEnabled(false);
         soundManager.playRollEffect();
+        scheduler.cancel(oddsChannel);
+
+        // Roll all unheld dice, score the new hand and save it in the background
+        scheduler.execute(gameChannel, new Callable<GameFrame>() {
+            @Override
+            public GameFrame call() {
+                if (game.canRoll()) {
+                    game.rollDice();
+                }
+                long start = System.nanoTime();
+                GameFrame rolled = GameFrame.of(game);
+                snapshotStore.save(rolled.snapshot);
+                latency.record(LatencyRecorder.ROLL_FRAME, start);
+                return rolled;
+            }
+        }, new TaskScheduler.Callback<GameFrame>() {
+            @Override
+            public void onResult(GameFrame result) {
+                frame = result;
+                waiting = false;
+                showRoll(tapNanos);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                showLastFrame();
+            }
+        });
+    }
+
+    /**
+     * Shows the hand of a new roll: the dice faces, the scores of this hand and the rolls left.
+     * @param tapNanos System.nanoTime() of the tap that rolled
+     */
+    private void showRoll(long tapNanos) {
+        long start = latency.record(LatencyRecorder.ROLL_DELIVER, tapNanos);
 
         // Get each die face and apply them to the views on screen
         updateDiceFaces();
+        start = latency.record(LatencyRecorder.ROLL_DICE_FACES, start);
 
-        // Build score map of this hand and apply to UI
-        scoreManager.calculateHand(board.getDiceValues());
-        //HashMap<Integer, Integer> map = scoreManager.getScoreDisplayMap(ScoreManager.MAP_TYPE_HAND_SCORES);
-        //updateScorepadDisplay(map, false);
+        // Apply the scores of this hand to the UI
+        scorePad.applyHandScores(frame.card, frame.handScores);
+        latency.record(LatencyRecorder.ROLL_HAND_SCORES, start);
 
-        // Decrement roll counter and update roll counter on display
-        rollCount--;
+        // Update roll counter on display
         updateRollCountDisplay();
 
-        // If we're out of turns, disable the roll button to force the player to score.
-        if (rollCount == 0) {
-            Button rollButton = (Button)findViewById(R.id.roll_dice_button);
-            rollButton.setEnabled(false);
+        // If we're out of turns, leave the roll button disabled to force the player to score.
+        Button rollButton = (Button)findViewById(R.id.roll_dice_button);
+        rollButton.setEnabled(frame.canRoll);
+        recordFirstFrame(LatencyRecorder.ROLL_TO_FIRST_FRAME, tapNanos);
+    }
+
+    /**
+     * Scores the current hand in a field on the game thread. Saving, journaling and, once the game is over, recording
+     * it happen there too.
+     */
+    private void scoreField(final int SCORE_FIELD) {
+        final long tapNanos = System.nanoTime();
+        waiting = true;
+        scheduler.cancel(oddsChannel);
+        scheduler.execute(gameChannel, new Callable<GameFrame>() {
+            @Override
+            public GameFrame call() {
+                if (!game.canScore(SCORE_FIELD)) {
+                    return GameFrame.of(game);
+                }
+                game.scoreField(SCORE_FIELD);
+                long start = System.nanoTime();
+                GameFrame scored = GameFrame.of(game);
+                snapshotStore.save(scored.snapshot);
+                journalStore.commit(game.getJournal());
+                if (game.isGameOver()) {
+                    finishGame();
+                }
+                latency.record(LatencyRecorder.SCORE_SAVE, start);
+                return scored;
+            }
+        }, new TaskScheduler.Callback<GameFrame>() {
+            @Override
+            public void onResult(GameFrame result) {
+                frame = result;
+                waiting = false;
+                if (!result.card.isScoreFieldSet(SCORE_FIELD)) {
+                    // The game did not accept the score, so show it as it is.
+                    showGame();
+                    return;
+                }
+                long start = latency.record(LatencyRecorder.SCORE_DELIVER, tapNanos);
+                int value = result.card.getPlayerScore(SCORE_FIELD);
+                scorePad.commitScore(SCORE_FIELD, value);
+                start = latency.record(LatencyRecorder.SCORE_COMMIT, start);
+                if (GameLog.V) GameLog.v(TAG, "Wrote {} to ScoreField ID {}", value, SCORE_FIELD);
+
+                // A Round is finished when a score is recorded, so start the next round.
+                newRound();
+                latency.record(LatencyRecorder.SCORE_NEW_ROUND, start);
+                recordFirstFrame(LatencyRecorder.SCORE_TO_FIRST_FRAME, tapNanos);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                showLastFrame();
+            }
+        });
+    }
+
+    /**
+     * A finished game is not resumed, its journal is archived and its final score is recorded. Runs on the game thread.
+     */
+    private void finishGame() {
+        game.addPlayTime(SystemClock.elapsedRealtime() - playTimeMark);
+        snapshotStore.clear();
+        journalStore.archive(game.getJournal());
+        historyStore.recordAsync(GameHistoryStore.GameRecord.of(game, System.currentTimeMillis()));
+        if (GameLog.D && game.getEventLog() != null) {
+            game.getEventLog().dump();
+        }
+        if (GameLog.D) {
+            latency.dump();
         }
     }
 
     /**
-     * Starts a new round by wiping the temp scores from the ScorePad, updating
-     * the player's total score, and resetting the turn count back to 3.
+     * Updates the display for a new round after Game has started it: releases the dice locks, updates the
+     * player's total score and shows the reset turn count.
      */
     public void newRound() {
-        // When a new round starts, we remove the temporary scores from the display by getting player's scoreMap and updating the display again
-        // updateScorepadDisplay(scoreManager.getScoreDisplayMap(ScoreManager.MAP_TYPE_PLAYER_SCORES), true);
-
-        // Reset roll count and hold status on all dice
-        rollCount = 3;
-        for (int i=0; i<5; i++) {
-            board.holdDie(i, false);
+        // Game has already released every die, so hide every lock
+        holdMask = frame.holdMask;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
             toggleDiceLock(i, false);
         }
 
         // If bonus has been reached, show it to the scorecard display
-        if (scoreManager.isBonusApplied()) {
+        if (frame.card.isBonusApplied()) {
             enableBonusDisplay(true);
         }
 
@@ -138,11 +464,8 @@ public class GameActivity extends Activity {
         // Update turn count on UI
         updateRollCountDisplay();
 
-        // Decrement a round
-        roundCount--;
-
         // if this is the end of the game, it's game over!
-        if (roundCount == 0) {
+        if (frame.gameOver) {
             FrameLayout gameOverPanel = (FrameLayout)findViewById(R.id.game_over_panel);
             gameOverPanel.setVisibility(View.VISIBLE);
         } else {
@@ -190,30 +513,114 @@ public class GameActivity extends Activity {
      * Gets the current total score of the player and updates the on-screen ScoreCard.
      */
     public void updatePlayerTotal() {
-        // Get the player's total from ScoreManager
-        String total = Integer.toString(scoreManager.getTotalScore());
+        // Get the player's total from the frame's ScoreCard
+        String total = Integer.toString(frame.card.getTotalScore());
 
         // Apply string converted total to TextView
         TextView totalTextView = (TextView)findViewById(R.id.grand_total_value_textview);
         totalTextView.setText(total);
+
+        // Bonus yahtzees are part of the total, so show their value alongside it
+        TextView bonusYahtzeeTextView = (TextView)findViewById(R.id.bonus_yahtzee_value_textview);
+        bonusYahtzeeTextView.setText(Integer.toString(frame.card.getYahtzeeBonusValue()));
     }
 
     /**
-     * Gets the drawable associated with each dice and updates the on-screen Imageviews.
+     * Shows the current value of each die on its on-screen ImageView.
      */
     private void updateDiceFaces() {
-        for (int i=0; i<=4; i++) {
-            Drawable d = board.getDieFace(i);
-            diceViews.get(i).setImageDrawable(d);
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            dieFaces[i].setValue(frame.dice[i]);
         }
     }
 
     /**
-     * Updates the displayed roll count based on the value of rollCount.
+     * Updates the displayed roll count based on the rolls left in this round.
      */
     private void updateRollCountDisplay() {
         TextView rollCountTextView = (TextView)findViewById(R.id.roll_count_textview);
-        rollCountTextView.setText(Integer.toString(rollCount));
+        rollCountTextView.setText(Integer.toString(frame.rollsLeft));
+    }
+
+    /**
+     * Returns the snapshot of the game to resume: the SnapshotStore's save, which includes any save still waiting to be
+     * written, or else the instance state saved by onSaveInstanceState. Runs on the game thread, after the save queued
+     * by the previous Activity's onPause.
+     * @return the snapshot, or null if there is nothing to resume
+     */
+    private byte[] loadSnapshot(byte[] savedSnapshot) {
+        byte[] snapshot = snapshotStore.load();
+        return (snapshot != null) ? snapshot : savedSnapshot;
+    }
+
+    /**
+     * Restores a game from a snapshot. A snapshot that cannot be decoded is discarded.
+     * @param seed seed of the DiceRng the resumed game rolls with
+     * @return the resumed Game, or null if there is no valid snapshot
+     */
+    private Game resumeGame(byte[] snapshot, long seed) {
+        if (snapshot == null) {
+            return null;
+        }
+        try {
+            return GameSnapshot.decode(snapshot, DiceRng.create(DICE_RNG_ALGORITHM, seed));
+        } catch (IOException e) {
+            if (GameLog.W) GameLog.w(TAG, "Discarding saved game: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Updates every part of the display to match the current frame, used after a game is resumed or a command failed.
+     */
+    private void showGame() {
+        // Dice keep showing the last hand between rounds, so only a game that has never been rolled shows the layout's dice.
+        if (frame.rolled || frame.roundsLeft < Game.ROUNDS_PER_GAME) {
+            updateDiceFaces();
+        }
+        // Holds are sent as they are toggled, so the player's holds may be ahead of the frame.
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            showDiceLock(i, (holdMask & (1 << i)) != 0);
+        }
+        scorePad.showScoreCard(frame.card, frame.handScores);
+        enableBonusDisplay(frame.card.isBonusApplied());
+        updatePlayerTotal();
+        updateRollCountDisplay();
+
+        Button rollButton = (Button)findViewById(R.id.roll_dice_button);
+        rollButton.setEnabled(frame.canRoll);
+        if (frame.gameOver) {
+            FrameLayout gameOverPanel = (FrameLayout)findViewById(R.id.game_over_panel);
+            gameOverPanel.setVisibility(View.VISIBLE);
+        }
+    }
+
+    /**
+     * Records the time from a tap until the next frame is drawn. The frame's pre-draw pass, which runs once the new
+     * values are laid out and just before they are drawn, is the closest this API level comes to the frame itself.
+     * @param phase LatencyRecorder phase to record
+     * @param tapNanos System.nanoTime() of the tap
+     */
+    private void recordFirstFrame(final int phase, final long tapNanos) {
+        final View root = findViewById(R.id.game_container_framelayout);
+        root.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                // Only the first frame counts
+                root.getViewTreeObserver().removeOnPreDrawListener(this);
+                latency.record(phase, tapNanos);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Accepts input again after a roll or score command failed, and redraws the last frame the game thread handed back.
+     * The scheduler has already logged the failure.
+     */
+    private void showLastFrame() {
+        waiting = false;
+        showGame();
     }
 
     /**
@@ -226,6 +633,15 @@ public class GameActivity extends Activity {
 
         // Play the toggle sound effect
         soundManager.playToggleEffect();
+        showDiceLock(dieIndex, isHeld);
+    }
+
+    /**
+     * Shows or hides the lock next to a die without any sound.
+     * @param dieIndex Die from 0-4
+     * @param isHeld true to show the lock, false to hide it.
+     */
+    private void showDiceLock(int dieIndex, boolean isHeld) {
 
         // Get the reference to the lock associated with the passed dieIndex
         ImageView lock = (ImageView)findViewById(R.id.game_container_framelayout).findViewWithTag(Integer.toString(dieIndex) + "L");
@@ -244,7 +660,7 @@ public class GameActivity extends Activity {
      * ScoreCard.VALUE_UPPER_HALF_BONUS. When disabled, the field will display zero.
      */
     public void enableBonusDisplay(boolean enableDisplay) {
-        Log.v(TAG, "Enabling bonus display on UI!");
+        if (GameLog.V) GameLog.v(TAG, "Enabling bonus display on UI!");
         TextView bonusTextView = (TextView)findViewById(R.id.upper_bonus_value_textview);
         if (enableDisplay) {
             bonusTextView.setText(Integer.toString(ScoreCard.VALUE_UPPER_HALF_BONUS));
@@ -262,20 +678,70 @@ public class GameActivity extends Activity {
 
         @Override
         public void onClick(View v) {
+            if (frame == null || waiting) {
+                return;
+            }
 
             // Extract the tag of this die to determine its index
-            int tag = Integer.parseInt(v.getTag().toString());
+            final int tag = Integer.parseInt(v.getTag().toString());
+
+            // Toggle the state of the die: release a held die, hold a free one.
+            final boolean held = (holdMask & (1 << tag)) == 0;
+            holdMask ^= (1 << tag);
+            toggleDiceLock(tag, held);
+
+            // Pass the hold on to the game. Commands run in order, so it lands before the next roll.
+            scheduler.cancel(oddsChannel);
+            scheduler.execute(gameChannel, new Callable<Void>() {
+                @Override
+                public Void call() {
+                    game.holdDie(tag, held);
+                    return null;
+                }
+            }, null);
+        }
+    }
 
-            // Toggle the state of the die
-            if (board.isDieHeld(tag)) {
-                // Die is held, release it.
-                board.holdDie(tag, false);
-                toggleDiceLock(tag, false);
-            } else {
-                // Die is free, hold it.
-                board.holdDie(tag, true);
-                toggleDiceLock(tag, true);
+    /**
+     * Long press listener applied to all score fields. Shows the odds of the field's category by the end of this round,
+     * rolling the dice that are not held now. The odds are computed on the compute pool, and a newer long press, or any
+     * roll, hold or score, drops a result that has not been shown yet.
+     */
+    private class scoreOddsListener implements View.OnLongClickListener {
+
+        @Override
+        public boolean onLongClick(View v) {
+            final int tag = Integer.parseInt(v.getTag().toString());
+            if (frame == null || waiting || frame.gameOver || frame.card.isScoreFieldSet(tag)) {
+                return false;
             }
+            final int[] dice = frame.dice;
+            final int holds = holdMask;
+            final int rollsLeft = frame.rollsLeft;
+            scheduler.compute(oddsChannel, new Callable<String>() {
+                @Override
+                public String call() {
+                    synchronized (oddsLock) {
+                        if (categoryOdds == null) {
+                            categoryOdds = new CategoryOdds();
+                        }
+                        double[] odds = categoryOdds.query(dice, holds, rollsLeft);
+                        return String.format("%.1f%% to score, %.1f points expected",
+                                100 * CategoryOdds.getScoringProbability(odds, tag), CategoryOdds.getExpectedPoints(odds, tag));
+                    }
+                }
+            }, new TaskScheduler.Callback<String>() {
+                @Override
+                public void onResult(String message) {
+                    Toast.makeText(GameActivity.this, message, Toast.LENGTH_SHORT).show();
+                }
+
+                @Override
+                public void onError(Exception e) {
+                    // Odds are only a hint, so a failure just shows nothing.
+                }
+            });
+            return true;
         }
     }
 
@@ -287,26 +753,35 @@ public class GameActivity extends Activity {
         @Override
         public void onClick(View v) {
 
-            // Get the value contained in this TextView
+            // Get the ScoreField key of this TextView
             TextView tv = (TextView) v;
             int tag = Integer.parseInt(tv.getTag().toString());
-            int value = Integer.parseInt(tv.getText().toString());
 
-            Log.v(TAG, "scoreTouchListener fired! textview ID: " + tv.getId() + " & value: " + value);
+            if (GameLog.V) GameLog.v(TAG, "scoreTouchListener fired! textview ID: {}", tv.getId());
 
-            // If this field is available, write the score to the player's ScoreCard and end this round.
-            if (!scoreManager.isScoreFieldSet(tag)) {
-                Log.v(TAG, "ScoreField " + tag + " is available! Locking this field...");
+            if (frame == null || waiting) {
+                return;
+            }
 
-                // Write the score
-                scoreManager.writeScore(tag, value);
-                Log.v(TAG, "Wrote " + value + " to ScoreField ID " + tag);
+            // A hand must be rolled before it can be scored.
+            if (!frame.rolled) {
+                if (GameLog.V) GameLog.v(TAG, "Dice have not been rolled this round, ignoring score selection.");
+                return;
+            }
 
-                // A Round is finished when a score is recorded, so start the next round.
-                newRound();
+            // If this field is available, write the score to the player's ScoreCard and end this round.
+            if (!frame.card.isScoreFieldSet(tag)) {
+                if (!frame.canScore(tag)) {
+                    if (GameLog.V) GameLog.v(TAG, "Joker rules do not allow this yahtzee in field {}, ignoring score selection.", tag);
+                    return;
+                }
+                if (GameLog.V) GameLog.v(TAG, "ScoreField {} is available! Locking this field...", tag);
+
+                // Write the score on the game thread
+                scoreField(tag);
             } else {
                 // Do nothing! Can't write to the same score field twice.
-                Log.e(TAG, "Cannot write to field " + tag + "! Already in use.");
+                if (GameLog.E) GameLog.e(TAG, "Cannot write to field {}! Already in use.", tag);
             }
         }
     }
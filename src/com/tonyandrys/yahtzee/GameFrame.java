@@ -0,0 +1,80 @@
+package com.tonyandrys.yahtzee;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.Game;
+import com.tonyandrys.yahtzee.engine.GameSnapshot;
+import com.tonyandrys.yahtzee.engine.Rules;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+
+/**
+ * com.tonyandrys.yahtzee - GameFrame
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * A copy of everything the UI shows about a single player Game, taken on the game thread after each command and handed
+ * to the UI thread. The UI only ever reads frames, so it never reads a Game while the game thread writes it.
+ *
+ * The card and arrays of a frame are its own copies, which the game thread never touches once the frame is handed
+ * over. They are exposed directly so drawing a frame copies nothing, so a frame is not immutable: callers must treat
+ * every field as read-only and never modify the card or the arrays.
+ *
+ * Each frame also carries the encoded GameSnapshot of its position, so saving the game never has to read the Game
+ * from the UI thread.
+ */
+public class GameFrame {
+
+    public final ScoreCard card;
+    public final int[] handScores;
+    public final int handIndex;
+    public final int[] dice;
+    public final int holdMask;
+    public final int rollsLeft;
+    public final int roundsLeft;
+    public final boolean rolled;
+    public final boolean canRoll;
+    public final boolean gameOver;
+    public final byte[] snapshot;
+
+    private GameFrame(Game game) {
+        card = new ScoreCard(game.getScoreCard());
+        handScores = game.getScoreManager().getHandScores().clone();
+        handIndex = game.getScoreManager().getHandIndex();
+        dice = new int[Board.DICE_COUNT];
+        game.getBoard().getDiceValues(dice);
+        int mask = 0;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            if (game.getBoard().isDieHeld(i)) {
+                mask |= (1 << i);
+            }
+        }
+        holdMask = mask;
+        rollsLeft = game.getRollsLeft();
+        roundsLeft = game.getRoundsLeft();
+        rolled = game.hasRolled();
+        canRoll = game.canRoll();
+        gameOver = game.isGameOver();
+        snapshot = GameSnapshot.encode(game);
+    }
+
+    /**
+     * Copies the current state of a Game. Must be called on the thread that owns the game.
+     */
+    public static GameFrame of(Game game) {
+        return new GameFrame(game);
+    }
+
+    public boolean isDieHeld(int dieIndex) {
+        return (holdMask & (1 << dieIndex)) != 0;
+    }
+
+    /**
+     * Checks if the hand of this frame can be scored in a field, the same check as Game.canScore().
+     */
+    public boolean canScore(int SCORE_FIELD) {
+        return rolled && Rules.canScore(card.getUsedMask(), handIndex, SCORE_FIELD);
+    }
+}
@@ -0,0 +1,268 @@
+package com.tonyandrys.yahtzee;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+
+import com.tonyandrys.yahtzee.engine.Game;
+import com.tonyandrys.yahtzee.engine.GameLog;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * com.tonyandrys.yahtzee - GameHistoryStore
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * SQLite store of every finished game: the 13 field scores, total, upper bonus, Yahtzee count, play time and finish time.
+ *
+ * Each field is its own integer column, so per-category statistics are computed by SQLite in a single pass without
+ * reading rows into memory. The total and the finish time are indexed, so a top-N leaderboard reads only N index
+ * entries and streaks walk the finish time index one row at a time.
+ *
+ * Games are recorded on the background writer. Queries run on the calling thread and may touch storage, so call them
+ * from a background thread.
+ */
+public class GameHistoryStore extends SQLiteOpenHelper {
+
+    private static final String TAG = GameHistoryStore.class.getSimpleName();
+
+    private static final String DATABASE_NAME = "history.db";
+    private static final int DATABASE_VERSION = 1;
+
+    private static final String TABLE_GAMES = "games";
+    private static final String COLUMN_FINISHED_AT = "finished_at";
+    private static final String COLUMN_PLAY_TIME = "play_time_ms";
+    private static final String COLUMN_TOTAL = "total";
+    private static final String COLUMN_UPPER_BONUS = "upper_bonus";
+    private static final String COLUMN_YAHTZEE_COUNT = "yahtzee_count";
+
+    // Column of each ScoreCard field, in ScoreCard.SCORE_FIELD order
+    private static final String[] FIELD_COLUMNS = {"ones", "twos", "threes", "fours", "fives", "sixes", "three_of_a_kind",
+            "four_of_a_kind", "full_house", "sm_straight", "lg_straight", "yahtzee", "chance"};
+
+    // Columns read into a GameRecord, in GameRecord column order
+    private static final String RECORD_COLUMNS;
+
+    static {
+        StringBuilder sb = new StringBuilder();
+        sb.append(COLUMN_FINISHED_AT).append(',').append(COLUMN_PLAY_TIME).append(',').append(COLUMN_TOTAL).append(',')
+                .append(COLUMN_UPPER_BONUS).append(',').append(COLUMN_YAHTZEE_COUNT);
+        for (String column : FIELD_COLUMNS) {
+            sb.append(',').append(column);
+        }
+        RECORD_COLUMNS = sb.toString();
+    }
+
+    private final Executor writer;
+    private SQLiteStatement insertStatement;
+
+    /**
+     * A finished game as stored in the history.
+     */
+    public static class GameRecord {
+        public final long finishedAt;
+        public final long playTimeMs;
+        public final int total;
+        public final boolean upperBonus;
+        public final int yahtzeeCount;
+        public final int[] fieldScores;
+
+        public GameRecord(long finishedAt, long playTimeMs, int total, boolean upperBonus, int yahtzeeCount, int[] fieldScores) {
+            this.finishedAt = finishedAt;
+            this.playTimeMs = playTimeMs;
+            this.total = total;
+            this.upperBonus = upperBonus;
+            this.yahtzeeCount = yahtzeeCount;
+            this.fieldScores = fieldScores;
+        }
+
+        /**
+         * Captures the final ScoreCard of a finished Game.
+         * @param finishedAt finish time in ms since the epoch
+         */
+        public static GameRecord of(Game game, long finishedAt) {
+            ScoreCard card = game.getScoreCard();
+            int[] fieldScores = new int[ScoreCard.NUMBER_OF_FIELDS];
+            for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+                fieldScores[i] = card.getPlayerScore(i);
+            }
+            return new GameRecord(finishedAt, game.getPlayTime(), card.getTotalScore(), card.isBonusApplied(), card.getYahtzeeCount(), fieldScores);
+        }
+    }
+
+    /**
+     * @param writer single-threaded executor that runs the inserts
+     */
+    public GameHistoryStore(Context context, Executor writer) {
+        super(context, DATABASE_NAME, null, DATABASE_VERSION);
+        this.writer = writer;
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        StringBuilder sql = new StringBuilder("CREATE TABLE " + TABLE_GAMES + " (_id INTEGER PRIMARY KEY AUTOINCREMENT, ");
+        sql.append(COLUMN_FINISHED_AT).append(" INTEGER NOT NULL, ");
+        sql.append(COLUMN_PLAY_TIME).append(" INTEGER NOT NULL, ");
+        sql.append(COLUMN_TOTAL).append(" INTEGER NOT NULL, ");
+        sql.append(COLUMN_UPPER_BONUS).append(" INTEGER NOT NULL, ");
+        sql.append(COLUMN_YAHTZEE_COUNT).append(" INTEGER NOT NULL");
+        for (String column : FIELD_COLUMNS) {
+            sql.append(", ").append(column).append(" INTEGER NOT NULL");
+        }
+        sql.append(')');
+        db.execSQL(sql.toString());
+        db.execSQL("CREATE INDEX games_total ON " + TABLE_GAMES + " (" + COLUMN_TOTAL + " DESC, " + COLUMN_FINISHED_AT + ")");
+        db.execSQL("CREATE INDEX games_finished_at ON " + TABLE_GAMES + " (" + COLUMN_FINISHED_AT + ")");
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        // Only one schema version exists so far.
+    }
+
+    /**
+     * Records a finished game in the background.
+     */
+    public void recordAsync(final GameRecord record) {
+        writer.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    record(record);
+                } catch (RuntimeException e) {
+                    if (GameLog.W) GameLog.w(TAG, "Could not record game: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Records a finished game on the calling thread.
+     * @return row id of the new game
+     */
+    public synchronized long record(GameRecord record) {
+        if (insertStatement == null) {
+            StringBuilder sql = new StringBuilder("INSERT INTO " + TABLE_GAMES + " (" + RECORD_COLUMNS + ") VALUES (?");
+            for (int i=1; i<5 + ScoreCard.NUMBER_OF_FIELDS; i++) {
+                sql.append(",?");
+            }
+            insertStatement = getWritableDatabase().compileStatement(sql.append(')').toString());
+        }
+        insertStatement.bindLong(1, record.finishedAt);
+        insertStatement.bindLong(2, record.playTimeMs);
+        insertStatement.bindLong(3, record.total);
+        insertStatement.bindLong(4, record.upperBonus ? 1 : 0);
+        insertStatement.bindLong(5, record.yahtzeeCount);
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            insertStatement.bindLong(6 + i, record.fieldScores[i]);
+        }
+        return insertStatement.executeInsert();
+    }
+
+    /**
+     * Returns the number of finished games.
+     */
+    public long getGameCount() {
+        Cursor c = getReadableDatabase().rawQuery("SELECT COUNT(*) FROM " + TABLE_GAMES, null);
+        try {
+            return c.moveToFirst() ? c.getLong(0) : 0;
+        } finally {
+            c.close();
+        }
+    }
+
+    /**
+     * Returns the highest scoring games, best first. Ties go to the game finished first.
+     * @param limit maximum number of games to return
+     */
+    public List<GameRecord> getTopGames(int limit) {
+        Cursor c = getReadableDatabase().rawQuery("SELECT " + RECORD_COLUMNS + " FROM " + TABLE_GAMES + " ORDER BY "
+                + COLUMN_TOTAL + " DESC, " + COLUMN_FINISHED_AT + " LIMIT " + limit, null);
+        try {
+            List<GameRecord> games = new ArrayList<GameRecord>(c.getCount());
+            while (c.moveToNext()) {
+                games.add(readRecord(c));
+            }
+            return games;
+        } finally {
+            c.close();
+        }
+    }
+
+    /**
+     * Returns the average score of every field over all finished games.
+     * @return averages in ScoreCard.SCORE_FIELD order, all zero if no games were played
+     */
+    public double[] getFieldAverages() {
+        StringBuilder sql = new StringBuilder("SELECT ");
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            sql.append((i > 0) ? ", " : "").append("AVG(").append(FIELD_COLUMNS[i]).append(')');
+        }
+        Cursor c = getReadableDatabase().rawQuery(sql.append(" FROM ").append(TABLE_GAMES).toString(), null);
+        try {
+            double[] averages = new double[ScoreCard.NUMBER_OF_FIELDS];
+            if (c.moveToFirst()) {
+                for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+                    averages[i] = c.isNull(i) ? 0 : c.getDouble(i);
+                }
+            }
+            return averages;
+        } finally {
+            c.close();
+        }
+    }
+
+    /**
+     * Returns the longest run of consecutive games that each scored at least minTotal.
+     */
+    public int getLongestStreak(int minTotal) {
+        Cursor c = getReadableDatabase().rawQuery("SELECT " + COLUMN_TOTAL + " FROM " + TABLE_GAMES + " ORDER BY " + COLUMN_FINISHED_AT, null);
+        try {
+            int longest = 0;
+            int run = 0;
+            while (c.moveToNext()) {
+                run = (c.getInt(0) >= minTotal) ? run + 1 : 0;
+                if (run > longest) {
+                    longest = run;
+                }
+            }
+            return longest;
+        } finally {
+            c.close();
+        }
+    }
+
+    /**
+     * Returns the number of most recent games in a row that each scored at least minTotal.
+     */
+    public int getCurrentStreak(int minTotal) {
+        Cursor c = getReadableDatabase().rawQuery("SELECT " + COLUMN_TOTAL + " FROM " + TABLE_GAMES + " ORDER BY " + COLUMN_FINISHED_AT + " DESC", null);
+        try {
+            int run = 0;
+            while (c.moveToNext() && c.getInt(0) >= minTotal) {
+                run++;
+            }
+            return run;
+        } finally {
+            c.close();
+        }
+    }
+
+    private static GameRecord readRecord(Cursor c) {
+        int[] fieldScores = new int[ScoreCard.NUMBER_OF_FIELDS];
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            fieldScores[i] = c.getInt(5 + i);
+        }
+        return new GameRecord(c.getLong(0), c.getLong(1), c.getInt(2), c.getInt(3) != 0, c.getInt(4), fieldScores);
+    }
+}
@@ -0,0 +1,148 @@
+package com.tonyandrys.yahtzee;
+
+import com.tonyandrys.yahtzee.engine.GameJournal;
+import com.tonyandrys.yahtzee.engine.GameLog;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+/**
+ * com.tonyandrys.yahtzee - JournalStore
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Keeps the GameJournal of the game in progress and the journals of finished games in internal storage.
+ *
+ * The game in progress is journaled to a fixed file. When a game ends, its journal is moved into the archive directory
+ * under its finish time, and only the newest MAX_ARCHIVED journals are kept. Every file operation, including the
+ * journal's own commits, runs on the shared background writer, so they happen in the order they were requested.
+ */
+public class JournalStore {
+
+    private static final String TAG = JournalStore.class.getSimpleName();
+
+    private static final String CURRENT_FILE_NAME = "current.yzj";
+    private static final String ARCHIVE_DIRECTORY = "journals";
+    private static final String ARCHIVE_SUFFIX = ".yzj";
+
+    // Number of finished game journals kept
+    public static final int MAX_ARCHIVED = 100;
+
+    private final File currentFile;
+    private final File archiveDirectory;
+    private final Executor writer;
+
+    /**
+     * @param directory directory the journals are kept in
+     * @param writer single-threaded executor that runs file operations in order
+     */
+    public JournalStore(File directory, Executor writer) {
+        this.currentFile = new File(directory, CURRENT_FILE_NAME);
+        this.archiveDirectory = new File(directory, ARCHIVE_DIRECTORY);
+        this.writer = writer;
+    }
+
+    /**
+     * Starts the journal of a new game. Nothing is written until the first commit.
+     * @param algorithm DiceRng.ALGORITHM of the generator the game rolls with
+     * @param seed seed of that generator
+     */
+    public GameJournal begin(byte algorithm, long seed) {
+        return GameJournal.create(currentFile, algorithm, seed);
+    }
+
+    /**
+     * Continues the journal of a game resumed from a GameSnapshot and commits its checkpoint.
+     * @param algorithm DiceRng.ALGORITHM of the generator the resumed game rolls with
+     * @param seed seed of that generator
+     * @param snapshot GameSnapshot the game was resumed from
+     */
+    public GameJournal resume(byte algorithm, long seed, byte[] snapshot) {
+        GameJournal journal = GameJournal.resume(currentFile, algorithm, seed, snapshot);
+        commit(journal);
+        return journal;
+    }
+
+    /**
+     * Commits a journal in the background.
+     */
+    public void commit(final GameJournal journal) {
+        writer.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    journal.commit();
+                } catch (IOException e) {
+                    if (GameLog.W) GameLog.w(TAG, "Could not commit game journal: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Commits and closes a journal in the background, such as when its Activity is destroyed.
+     */
+    public void close(final GameJournal journal) {
+        writer.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    journal.close();
+                } catch (IOException e) {
+                    if (GameLog.W) GameLog.w(TAG, "Could not close game journal: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Closes the journal of a finished game in the background and moves it into the archive.
+     */
+    public void archive(final GameJournal journal) {
+        close(journal);
+        writer.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (!archiveDirectory.isDirectory() && !archiveDirectory.mkdirs()) {
+                    if (GameLog.W) GameLog.w(TAG, "Could not create {}", archiveDirectory);
+                    return;
+                }
+                File archived = new File(archiveDirectory, System.currentTimeMillis() + ARCHIVE_SUFFIX);
+                if (!currentFile.renameTo(archived)) {
+                    if (GameLog.W) GameLog.w(TAG, "Could not archive {}", currentFile);
+                    return;
+                }
+                prune();
+            }
+        });
+    }
+
+    /**
+     * Returns the archived journals of finished games, oldest first.
+     */
+    public File[] listArchived() {
+        File[] files = archiveDirectory.listFiles();
+        if (files == null) {
+            return new File[0];
+        }
+        // Names are finish times of equal length, so name order is time order.
+        Arrays.sort(files);
+        return files;
+    }
+
+    /**
+     * Deletes the oldest archived journals beyond MAX_ARCHIVED.
+     */
+    private void prune() {
+        File[] files = listArchived();
+        for (int i=0; i<files.length - MAX_ARCHIVED; i++) {
+            files[i].delete();
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.tonyandrys.yahtzee;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.Intent;
+import android.os.Bundle;
+import android.view.View;
+import android.widget.Button;
+import android.widget.FrameLayout;
+import android.widget.ImageView;
+import android.widget.TextView;
+
+import com.tonyandrys.yahtzee.bot.Bot;
+import com.tonyandrys.yahtzee.bot.BotPolicy;
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.DiceRng;
+import com.tonyandrys.yahtzee.engine.GameLog;
+import com.tonyandrys.yahtzee.engine.MultiplayerGame;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+import com.tonyandrys.yahtzee.engine.ScoreTable;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+/**
+ * com.tonyandrys.yahtzee - MultiplayerActivity
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Pass-and-play game for 2 to 8 players on the game layout. The players' names are passed in EXTRA_PLAYER_NAMES.
+ *
+ * The scorepad always shows the scorecard of the player whose turn it is. When the turn passes, ScorePadBinder rewrites
+ * only the fields that differ between the two scorecards, so no views are inflated or rebound. Unlike GameActivity,
+ * multiplayer games are not saved, journaled or recorded in the game history.
+ *
+ * Any player can be a bot, chosen by EXTRA_BOT_STRENGTHS. A bot's moves are decided on the TaskScheduler's compute pool
+ * from a copy of the position, so the UI thread never waits for a bot to think, and are played back on the UI thread
+ * one at a time with a short pause so they can be followed. Touches are ignored during a bot's turn.
+ *
+ * Bot moves go through a single TaskScheduler channel. Deciding a move starts a new generation of the channel, so a move
+ * from an earlier decision is dropped rather than played, and onDestroy() cancels the channel, so no move decided or
+ * waiting out its pause is played once the Activity is gone. A bot whose policy fails falls back to the greedy policy,
+ * so its turn always finishes.
+ */
+public class MultiplayerActivity extends Activity {
+
+    private static final String TAG = MultiplayerActivity.class.getSimpleName();
+
+    // Intent extra holding the String[] of player names, in turn order
+    public static final String EXTRA_PLAYER_NAMES = "com.tonyandrys.yahtzee.PLAYER_NAMES";
+
+    // Intent extra holding an int[] with the Bot.STRENGTH constant of each player, or HUMAN for a human player
+    public static final String EXTRA_BOT_STRENGTHS = "com.tonyandrys.yahtzee.BOT_STRENGTHS";
+    public static final int HUMAN = -1;
+
+    // Pause before each bot move is shown
+    private static final long BOT_MOVE_DELAY_MS = 700;
+
+    SoundManager soundManager;
+    ScorePadBinder scorePad;
+    DieFaceDrawable[] dieFaces;
+    MultiplayerGame game;
+    int[] botStrengths;
+    TaskScheduler scheduler;
+
+    // Bot moves being decided or waiting to be shown
+    TaskScheduler.Channel botChannel;
+
+    /**
+     * Creates the Intent that starts a multiplayer game.
+     * @param names names of the 2 to 8 players, in turn order
+     * @param strengths Bot.STRENGTH constant of each player, or HUMAN for a human player
+     */
+    public static Intent newIntent(Context context, String[] names, int[] strengths) {
+        return new Intent(context, MultiplayerActivity.class)
+                .putExtra(EXTRA_PLAYER_NAMES, names)
+                .putExtra(EXTRA_BOT_STRENGTHS, strengths);
+    }
+
+    @Override
+    public void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.game_layout);
+
+        String[] names = getIntent().getStringArrayExtra(EXTRA_PLAYER_NAMES);
+        if (names == null || names.length < 2) {
+            names = new String[] {"Player 1", "Player 2"};
+        }
+        game = new MultiplayerGame(names, DiceRng.create(DiceRng.ALGORITHM_XOROSHIRO128, new Random().nextLong()));
+        botStrengths = new int[names.length];
+        int[] strengths = getIntent().getIntArrayExtra(EXTRA_BOT_STRENGTHS);
+        for (int i=0; i<names.length; i++) {
+            botStrengths[i] = (strengths != null && i < strengths.length) ? strengths[i] : HUMAN;
+        }
+        soundManager = new SoundManager(this);
+
+        // Build key -> TextView lookup table for ScoreFields, then bind the scorepad
+        int[] scoreResIDs = {R.id.ones_value_textview, R.id.twos_value_textview, R.id.threes_value_textview, R.id.fours_value_textview, R.id.fives_value_textview, R.id.sixes_value_textview, R.id.three_of_a_kind_value_textview, R.id.four_of_a_kind_value_textview, R.id.full_house_value_textview, R.id.sm_straight_value_textview, R.id.lg_straight_value_textview, R.id.yahtzee_value_textview, R.id.chance_value_textview};
+        HashMap<Integer, Integer> tvLookupTable = new HashMap<Integer, Integer>();
+        for (int i=0; i<scoreResIDs.length; i++) {
+            tvLookupTable.put(i, scoreResIDs[i]);
+            findViewById(scoreResIDs[i]).setOnClickListener(new scoreTouchListener());
+        }
+        UITable uiTable = ((UITable)getApplicationContext());
+        uiTable.setScoreTable(tvLookupTable);
+        scorePad = new ScorePadBinder(this);
+        scheduler = uiTable.getTaskScheduler();
+        botChannel = scheduler.newChannel("bot");
+
+        // Each die draws its faces from the shared atlas
+        DiceFaceAtlas atlas = uiTable.getDiceFaceAtlas();
+        dieFaces = new DieFaceDrawable[Board.DICE_COUNT];
+        int[] resIds = {R.id.die_1_imageview, R.id.die_2_imageview, R.id.die_3_imageview, R.id.die_4_imageview, R.id.die_5_imageview};
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            ImageView die = (ImageView)findViewById(resIds[i]);
+            die.setOnClickListener(new dieTouchListener());
+            dieFaces[i] = new DieFaceDrawable(atlas);
+            die.setImageDrawable(dieFaces[i]);
+        }
+
+        Button rollDiceButton = (Button)findViewById(R.id.roll_dice_button);
+        rollDiceButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                if (!isBotTurn()) {
+                    roll();
+                }
+            }
+        });
+
+        showTurn();
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        scheduler.cancel(botChannel);
+        soundManager.release();
+    }
+
+    /**
+     * Rolls all un-held dice and shows the current player's scores for the new hand.
+     */
+    private void roll() {
+        game.rollDice();
+        soundManager.playRollEffect();
+        Board board = game.getBoard();
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            dieFaces[i].setValue(board.getDieValue(i));
+        }
+        scorePad.applyHandScores(game.getScoreTable(), game.getCurrentPlayer(), game.getHandScores());
+        updateRollCountDisplay();
+        if (!game.canRoll()) {
+            findViewById(R.id.roll_dice_button).setEnabled(false);
+        }
+    }
+
+    /**
+     * Shows the scorecard, totals and name of the player whose turn it is, and releases the dice locks.
+     */
+    private void showTurn() {
+        ScoreTable table = game.getScoreTable();
+        int player = game.getCurrentPlayer();
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            showDiceLock(i, false);
+        }
+        scorePad.showPlayer(table, player, game.getHandScores());
+
+        TextView bonusTextView = (TextView)findViewById(R.id.upper_bonus_value_textview);
+        bonusTextView.setText(Integer.toString(table.isBonusApplied(player) ? ScoreCard.VALUE_UPPER_HALF_BONUS : 0));
+        TextView bonusYahtzeeTextView = (TextView)findViewById(R.id.bonus_yahtzee_value_textview);
+        bonusYahtzeeTextView.setText(Integer.toString(table.getYahtzeeBonusValue(player)));
+        TextView totalTextView = (TextView)findViewById(R.id.grand_total_value_textview);
+        totalTextView.setText(Integer.toString(table.getTotalScore(player)));
+        updateRollCountDisplay();
+
+        if (game.isGameOver()) {
+            int winner = table.getLeader();
+            setTitle(table.getPlayerName(winner) + " wins with " + table.getTotalScore(winner));
+            FrameLayout gameOverPanel = (FrameLayout)findViewById(R.id.game_over_panel);
+            gameOverPanel.setVisibility(View.VISIBLE);
+            findViewById(R.id.roll_dice_button).setEnabled(false);
+        } else {
+            setTitle(table.getPlayerName(player) + " (" + table.getTotalScore(player) + ")");
+            findViewById(R.id.roll_dice_button).setEnabled(!isBotTurn());
+            if (isBotTurn()) {
+                playBotMove();
+            }
+        }
+    }
+
+    private boolean isBotTurn() {
+        return !game.isGameOver() && botStrengths[game.getCurrentPlayer()] != HUMAN;
+    }
+
+    /**
+     * Decides the current bot's next move on the compute pool, then plays it on the UI thread after BOT_MOVE_DELAY_MS.
+     * The game is not touched until the move is played, so the position is copied before the pool reads it. Moves
+     * still pending when the Activity is destroyed are dropped with the bot channel.
+     */
+    private void playBotMove() {
+        playBotMove(botStrengths[game.getCurrentPlayer()]);
+    }
+
+    /**
+     * Decides and plays the current bot's next move at a strength. If deciding fails, such as when the bot's policy
+     * cannot be loaded, the move is decided again by the greedy policy, which needs no table.
+     * @param strength Bot.STRENGTH constant to decide with
+     */
+    private void playBotMove(final int strength) {
+        final int player = game.getCurrentPlayer();
+        final int stateIndex = Bot.stateIndex(game.getScoreTable(), player);
+        final int rollsLeft = game.getRollsLeft();
+        final int[] dice = new int[Board.DICE_COUNT];
+        game.getBoard().getDiceValues(dice);
+        final UITable uiTable = (UITable)getApplicationContext();
+        scheduler.compute(botChannel, new Callable<Bot.Move>() {
+            @Override
+            public Bot.Move call() {
+                BotPolicy policy = (strength == Bot.STRENGTH_GREEDY)
+                        ? Bot.newPolicy(Bot.STRENGTH_GREEDY, null) : uiTable.getBotPolicy(strength);
+                Bot bot = new Bot(policy, strength);
+                return bot.decide(stateIndex, rollsLeft, dice);
+            }
+        }, new TaskScheduler.Callback<Bot.Move>() {
+            @Override
+            public void onResult(final Bot.Move move) {
+                scheduler.postDelayed(botChannel, new Runnable() {
+                    @Override
+                    public void run() {
+                        if (game.getCurrentPlayer() == player && game.getRollsLeft() == rollsLeft) {
+                            applyBotMove(move);
+                        }
+                    }
+                }, BOT_MOVE_DELAY_MS);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                if (strength != Bot.STRENGTH_GREEDY && game.getCurrentPlayer() == player && game.getRollsLeft() == rollsLeft) {
+                    playBotMove(Bot.STRENGTH_GREEDY);
+                }
+            }
+        });
+    }
+
+    /**
+     * Plays a bot's move on the board. Rolling leads to the bot's next move, and scoring passes the turn.
+     */
+    private void applyBotMove(Bot.Move move) {
+        if (move.roll) {
+            for (int i=0; i<Board.DICE_COUNT; i++) {
+                boolean held = (move.holdMask & (1 << i)) != 0;
+                game.holdDie(i, held);
+                showDiceLock(i, held);
+            }
+            roll();
+            playBotMove();
+        } else {
+            int value = game.scoreField(move.field);
+            if (GameLog.V) GameLog.v(TAG, "Bot wrote {} to ScoreField {}", value, move.field);
+            showTurn();
+        }
+    }
+
+    private void updateRollCountDisplay() {
+        TextView rollCountTextView = (TextView)findViewById(R.id.roll_count_textview);
+        rollCountTextView.setText(Integer.toString(game.getRollsLeft()));
+    }
+
+    /**
+     * Shows or hides the lock next to a die.
+     * @param dieIndex Die from 0-4
+     * @param isHeld true to show the lock, false to hide it.
+     */
+    private void showDiceLock(int dieIndex, boolean isHeld) {
+        ImageView lock = (ImageView)findViewById(R.id.game_container_framelayout).findViewWithTag(Integer.toString(dieIndex) + "L");
+        lock.setVisibility(isHeld ? View.VISIBLE : View.INVISIBLE);
+    }
+
+    /**
+     * Listener applied to all dice, toggling the held state of the touched die.
+     */
+    private class dieTouchListener implements View.OnClickListener {
+
+        @Override
+        public void onClick(View v) {
+            if (isBotTurn()) {
+                return;
+            }
+            int tag = Integer.parseInt(v.getTag().toString());
+            boolean held = !game.getBoard().isDieHeld(tag);
+            game.holdDie(tag, held);
+            soundManager.playToggleEffect();
+            showDiceLock(tag, held);
+        }
+    }
+
+    /**
+     * Listener applied to all score fields. Scoring an available field ends the current player's turn.
+     */
+    private class scoreTouchListener implements View.OnClickListener {
+
+        @Override
+        public void onClick(View v) {
+            int tag = Integer.parseInt(v.getTag().toString());
+            if (isBotTurn() || !game.canScore(tag)) {
+                return;
+            }
+            int value = game.scoreField(tag);
+            if (GameLog.V) GameLog.v(TAG, "Wrote {} to ScoreField {}", value, tag);
+            showTurn();
+        }
+    }
+}
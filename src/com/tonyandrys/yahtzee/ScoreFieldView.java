@@ -0,0 +1,131 @@
+package com.tonyandrys.yahtzee;
+
+/**
+ * com.tonyandrys.yahtzee - ScoreFieldView.java
+ *
+ * @author Tony Andrys
+ *         Created: 12/28/2013
+ *         (C) 2013 - Tony Andrys
+ */
+
+import android.app.Activity;
+import android.content.Context;
+import android.widget.TextView;
+
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+
+/**
+ * Displays a single field of the player's ScoreCard on the scorepad.
+ * Permanent scores are shown in black and temporary scores for the current hand are shown in gray.
+ *
+ * Setting a score only changes what the field should show. refreshView() compares that with what the TextView last
+ * rendered and only touches the TextView if its text or color actually changed.
+ */
+public class ScoreFieldView {
+
+    // Rendered value before the first refresh, which never matches a real score
+    private static final int UNRENDERED = Integer.MIN_VALUE;
+
+    // Text of the values a field can show, so refreshing never formats a number. Values above this are formatted.
+    private static final String[] VALUE_TEXT = new String[ScoreCard.VALUE_YAHTZEE + 1];
+
+    static {
+        for (int i=0; i<VALUE_TEXT.length; i++) {
+            VALUE_TEXT[i] = Integer.toString(i);
+        }
+    }
+
+    TextView tv;
+    Context context;
+    int score;
+    int tempScore;
+    boolean hasScore;
+    int key;
+
+    // Colors of a temporary and a permanent score, and the value and color last written to the TextView
+    private final int availableColor;
+    private final int usedColor;
+    private int renderedValue;
+    private int renderedColor;
+
+    /**
+     * Binds a new ScoreFieldView to the TextView of a scorecard field with an initial value of 0.
+     * @param key Unique key which is used to map the parameters of this ScoreField to a specific TextView visable to the user. These are constants defined in ScoreCard.
+     * @param availableColor resolved color of a temporary score
+     * @param usedColor resolved color of a permanent score
+     */
+    public ScoreFieldView(int key, Activity activity, int availableColor, int usedColor) {
+        this.key = key;
+        this.hasScore = false;
+        this.score = 0;
+        this.tempScore = 0;
+        this.context = activity.getApplicationContext();
+        this.availableColor = availableColor;
+        this.usedColor = usedColor;
+        this.renderedValue = UNRENDERED;
+        this.renderedColor = 0;
+
+        // Lookup and store a reference to the TextView associated with this ScoreField
+        UITable uiTable = ((UITable)context.getApplicationContext());
+        int textViewID = uiTable.getScoreTable().get(this.key);
+        this.tv = (TextView)activity.findViewById(textViewID);
+        assert(this.tv != null);
+    }
+
+    public int getKey() {
+        return this.key;
+    }
+
+    /**
+     * Sets the temporary score displayed by this field. Ignored once the field has a permanent score.
+     * The TextView is not updated until refreshView() is called.
+     * @param tempScore integer to display as temp value
+     */
+    public void setTempScore(int tempScore) {
+        // if this ScoreField has no permanent score, it can still be selected by the player, so display this temporary score on its associated TextView.
+        if (!hasScore) {
+            this.tempScore = tempScore;
+        }
+    }
+
+    /**
+     * Sets the permanent score of this field. The TextView is not updated until refreshView() is called.
+     * @param score integer the player locked into this field
+     */
+    public void setPlayerScore(int score) {
+        this.score = score;
+        this.hasScore = true;
+    }
+
+    /**
+     * Makes this field available again, so it shows temporary scores. Used when the scorepad switches to another
+     * player's scorecard. The TextView is not updated until refreshView() is called.
+     */
+    public void clearPlayerScore() {
+        this.score = 0;
+        this.hasScore = false;
+    }
+
+    /**
+     * Refreshes this ScoreField's display parameters. Calling this will display the appropriate value for this ScoreField.
+     * The text and color are only set on the TextView if they differ from what it last rendered.
+     * @return true if the TextView was changed
+     */
+    public boolean refreshView() {
+        // A saved score is displayed in black, a temporary value in gray.
+        int value = hasScore ? this.score : this.tempScore;
+        int color = hasScore ? usedColor : availableColor;
+        boolean changed = false;
+        if (color != renderedColor || renderedValue == UNRENDERED) {
+            this.tv.setTextColor(color);
+            renderedColor = color;
+            changed = true;
+        }
+        if (value != renderedValue) {
+            this.tv.setText((value >= 0 && value < VALUE_TEXT.length) ? VALUE_TEXT[value] : Integer.toString(value));
+            renderedValue = value;
+            changed = true;
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,134 @@
+package com.tonyandrys.yahtzee;
+
+import android.app.Activity;
+
+import com.tonyandrys.yahtzee.engine.GameLog;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+import com.tonyandrys.yahtzee.engine.ScoreTable;
+
+/**
+ * com.tonyandrys.yahtzee - ScorePadBinder
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Binds the headless ScoreCard model to the 13 score TextViews on the scorepad.
+ *
+ * Updates are applied in one pass over the fields after the new values are set, and each ScoreFieldView only touches
+ * its TextView when the text or color it shows changes. A roll usually changes a handful of fields, so only those
+ * TextViews request a layout, and they are all measured in the same layout pass.
+ *
+ * In a multiplayer game the same 13 fields show whichever player's scorecard is current. Switching players only
+ * rewrites the fields that differ between the two scorecards.
+ */
+public class ScorePadBinder {
+
+    private static final String TAG = ScorePadBinder.class.getSimpleName();
+
+    private ScoreFieldView[] fields;
+
+    public ScorePadBinder(Activity activity) {
+        // Resolve the field colors once instead of on every refresh
+        int availableColor = activity.getResources().getColor(R.color.available_scorepad_field);
+        int usedColor = activity.getResources().getColor(R.color.used_scorepad_field);
+
+        fields = new ScoreFieldView[ScoreCard.NUMBER_OF_FIELDS];
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            fields[i] = new ScoreFieldView(i, activity, availableColor, usedColor);
+        }
+    }
+
+    /**
+     * Displays the scores calculated for the current hand on every field the player has not used yet.
+     * @param card player's ScoreCard
+     * @param handScores hand scores in ScoreCard.SCORE_FIELD order
+     */
+    public void applyHandScores(ScoreCard card, int[] handScores) {
+        for (int i=0; i<handScores.length; i++) {
+            if (!card.isScoreFieldSet(i)) {
+                fields[i].setTempScore(handScores[i]);
+            }
+        }
+        int changed = flush();
+        if (GameLog.V) GameLog.v(TAG, "Hand scores changed {} fields", changed);
+    }
+
+    /**
+     * Displays the scores calculated for the current hand on every field a player of a multiplayer game has not used.
+     * @param table scorecards of every player
+     * @param player player whose turn it is
+     * @param handScores hand scores in ScoreCard.SCORE_FIELD order
+     */
+    public void applyHandScores(ScoreTable table, int player, int[] handScores) {
+        for (int i=0; i<handScores.length; i++) {
+            if (!table.isScoreFieldSet(player, i)) {
+                fields[i].setTempScore(handScores[i]);
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Displays a player's scorecard from a multiplayer game: permanent scores on used fields and the current hand's
+     * scores on the rest. Called when the turn passes to that player.
+     * @param table scorecards of every player
+     * @param player player to show
+     * @param handScores hand scores in ScoreCard.SCORE_FIELD order
+     */
+    public void showPlayer(ScoreTable table, int player, int[] handScores) {
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            if (table.isScoreFieldSet(player, i)) {
+                fields[i].setPlayerScore(table.getScore(player, i));
+            } else {
+                fields[i].clearPlayerScore();
+                fields[i].setTempScore(handScores[i]);
+            }
+        }
+        int changed = flush();
+        if (GameLog.V) GameLog.v(TAG, "Showing player {} changed {} fields", player, changed);
+    }
+
+    /**
+     * Displays the permanent score of a field after the player has locked it in.
+     * @param SCORE_FIELD ScoreCard.SCORE_FIELD constant of the field
+     * @param value score written to the field
+     */
+    public void commitScore(int SCORE_FIELD, int value) {
+        fields[SCORE_FIELD].setPlayerScore(value);
+        fields[SCORE_FIELD].refreshView();
+    }
+
+    /**
+     * Displays a whole ScoreCard, such as a resumed game: permanent scores on used fields and the current hand's
+     * scores on the rest.
+     * @param card player's ScoreCard
+     * @param handScores hand scores in ScoreCard.SCORE_FIELD order
+     */
+    public void showScoreCard(ScoreCard card, int[] handScores) {
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            if (card.isScoreFieldSet(i)) {
+                fields[i].setPlayerScore(card.getPlayerScore(i));
+            } else {
+                fields[i].setTempScore(handScores[i]);
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Writes every field whose displayed text or color has changed to its TextView.
+     * @return number of fields that were changed
+     */
+    public int flush() {
+        int changed = 0;
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            if (fields[i].refreshView()) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,144 @@
+package com.tonyandrys.yahtzee;
+
+import com.tonyandrys.yahtzee.engine.GameLog;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * com.tonyandrys.yahtzee - SnapshotStore
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Saves the GameSnapshot of the game in progress to internal storage so it survives the process being killed.
+ *
+ * Writes run on a single background thread shared with other file writes (see UITable.getIoExecutor()). A new snapshot
+ * replaces one that is still waiting to be written, so a burst of saves costs one write. Each write goes to a temporary
+ * file that is synced to storage and then renamed over the previous save. A rename within a directory is atomic, so the
+ * save on disk is always a complete snapshot, either the old one or the new one. One store is shared by the whole
+ * process through UITable so every write is ordered.
+ */
+public class SnapshotStore {
+
+    private static final String TAG = SnapshotStore.class.getSimpleName();
+
+    private static final String FILE_NAME = "game.snapshot";
+    private static final String TEMP_FILE_NAME = "game.snapshot.tmp";
+
+    // Zero-length marker: the save should be deleted rather than written.
+    private static final byte[] DELETE = new byte[0];
+
+    private final File file;
+    private final File tempFile;
+    private final Executor writer;
+
+    // Newest snapshot not yet written, or null if the writer is idle
+    private final AtomicReference<byte[]> pending;
+
+    // Newest snapshot saved or cleared by this store, or null if it has not saved anything yet
+    private volatile byte[] latest;
+
+    /**
+     * @param directory directory the save is kept in
+     * @param writer single-threaded executor that runs the writes in order
+     */
+    public SnapshotStore(File directory, Executor writer) {
+        this.file = new File(directory, FILE_NAME);
+        this.tempFile = new File(directory, TEMP_FILE_NAME);
+        this.pending = new AtomicReference<byte[]>();
+        this.writer = writer;
+    }
+
+    /**
+     * Reads the saved snapshot. Once this store has saved or cleared anything, that is returned from memory, so a load
+     * always sees the newest save even while it is still being written. Snapshots are a few dozen bytes, so reading the
+     * file is cheap enough for the game thread.
+     * @return the saved snapshot, or null if there is none
+     */
+    public byte[] load() {
+        byte[] saved = latest;
+        if (saved != null) {
+            return (saved == DELETE) ? null : saved;
+        }
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            FileInputStream in = new FileInputStream(file);
+            try {
+                byte[] snapshot = new byte[(int)file.length()];
+                int read = 0;
+                while (read < snapshot.length) {
+                    int n = in.read(snapshot, read, snapshot.length - read);
+                    if (n < 0) {
+                        break;
+                    }
+                    read += n;
+                }
+                return (read == snapshot.length) ? snapshot : null;
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            if (GameLog.W) GameLog.w(TAG, "Could not read saved game: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Queues a snapshot to be written in the background, replacing any snapshot that has not been written yet.
+     */
+    public void save(byte[] snapshot) {
+        enqueue(snapshot);
+    }
+
+    /**
+     * Queues deletion of the saved snapshot, such as when the game is over.
+     */
+    public void clear() {
+        enqueue(DELETE);
+    }
+
+    private void enqueue(byte[] snapshot) {
+        latest = snapshot;
+        // Only schedule a write if none is waiting. A waiting write picks up the newest snapshot when it runs.
+        if (pending.getAndSet(snapshot) == null) {
+            writer.execute(new Runnable() {
+                @Override
+                public void run() {
+                    write(pending.getAndSet(null));
+                }
+            });
+        }
+    }
+
+    private void write(byte[] snapshot) {
+        try {
+            if (snapshot == DELETE) {
+                file.delete();
+                return;
+            }
+            FileOutputStream out = new FileOutputStream(tempFile);
+            try {
+                out.write(snapshot);
+                out.flush();
+                out.getFD().sync();
+            } finally {
+                out.close();
+            }
+            if (!tempFile.renameTo(file)) {
+                throw new IOException("Could not rename " + tempFile + " to " + file);
+            }
+        } catch (IOException e) {
+            if (GameLog.W) GameLog.w(TAG, "Could not save game: {}", e.getMessage());
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.tonyandrys.yahtzee;
 
 import android.content.Context;
-import android.media.MediaPlayer;
+import android.media.AudioManager;
+import android.media.SoundPool;
+import android.os.SystemClock;
 
 /**
  * com.tonyandrys.yahtzee - SoundManager
@@ -13,25 +15,75 @@ import android.media.MediaPlayer;
 
 /**
  * Handles playback of all audio and sound effects.
+ *
+ * Effects are decoded once into a SoundPool, which plays them with low latency and lets several voices overlap.
+ * Toggle clicks requested within TOGGLE_COALESCE_MS of the last one are dropped, so a burst of toggles (such as every
+ * lock being released at the start of a round) is heard as a single click.
  */
 public class SoundManager {
 
-    private Context context;
-    MediaPlayer rollMp;
-    MediaPlayer toggleMp;
+    // Number of effects that can play at once
+    private static final int MAX_VOICES = 4;
+
+    // Toggle clicks closer together than this are merged into one
+    private static final long TOGGLE_COALESCE_MS = 60;
+
+    private SoundPool soundPool;
+    private int rollSoundId;
+    private int toggleSoundId;
+    private boolean rollLoaded;
+    private boolean toggleLoaded;
+    private long lastToggleTime;
 
     public SoundManager(Context context) {
-        this.context = context;
-        rollMp = MediaPlayer.create(context, R.raw.diceroll);
-        toggleMp = MediaPlayer.create(context, R.raw.click);
+        soundPool = new SoundPool(MAX_VOICES, AudioManager.STREAM_MUSIC, 0);
+
+        // Samples decode in the background. Effects requested before their sample is ready are skipped.
+        soundPool.setOnLoadCompleteListener(new SoundPool.OnLoadCompleteListener() {
+            @Override
+            public void onLoadComplete(SoundPool pool, int sampleId, int status) {
+                if (status != 0) {
+                    return;
+                }
+                if (sampleId == rollSoundId) {
+                    rollLoaded = true;
+                } else if (sampleId == toggleSoundId) {
+                    toggleLoaded = true;
+                }
+            }
+        });
+        rollSoundId = soundPool.load(context, R.raw.diceroll, 1);
+        toggleSoundId = soundPool.load(context, R.raw.click, 1);
+        lastToggleTime = -TOGGLE_COALESCE_MS;
     }
 
     public void playRollEffect() {
-        rollMp.start();
+        if (rollLoaded) {
+            soundPool.play(rollSoundId, 1f, 1f, 1, 0, 1f);
+        }
     }
 
     public void playToggleEffect() {
-        toggleMp.start();
+        long now = SystemClock.uptimeMillis();
+        if (now - lastToggleTime < TOGGLE_COALESCE_MS) {
+            return;
+        }
+        lastToggleTime = now;
+        if (toggleLoaded) {
+            soundPool.play(toggleSoundId, 1f, 1f, 0, 0, 1f);
+        }
+    }
+
+    /**
+     * Frees the decoded samples. No effects can be played afterwards.
+     */
+    public void release() {
+        if (soundPool != null) {
+            soundPool.release();
+            soundPool = null;
+            rollLoaded = false;
+            toggleLoaded = false;
+        }
     }
 
 }
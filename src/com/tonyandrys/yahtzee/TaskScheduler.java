@@ -0,0 +1,233 @@
+package com.tonyandrys.yahtzee;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.tonyandrys.yahtzee.engine.GameLog;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * com.tonyandrys.yahtzee - TaskScheduler
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Runs game work off the UI thread and hands the results back to it by message passing.
+ *
+ * There are two kinds of background thread:
+ *   - The game thread: a single thread that owns the state of the game in progress. Every change to a Game is a command
+ *     run here, one after another, so the game has exactly one writer and never needs a lock. A command returns an
+ *     immutable copy of what the UI needs to show, such as a GameFrame.
+ *   - The compute pool: threads for expensive read-only work, such as odds, hints and bot moves, working on copies of
+ *     the position so they never touch the game itself.
+ * Results are posted to a Handler on the main Looper, so every callback runs on the UI thread.
+ *
+ * Work is grouped in Channels, and each Channel has a generation number. A result is only delivered if its Channel is
+ * still on the generation the work was submitted in. compute() starts a new generation, so a result that is still being
+ * computed when the player asks again is dropped, and cancel() starts a new generation to drop everything pending, such
+ * as when an Activity is destroyed. Commands on the game thread always run, since they are the player's moves; only
+ * their results are dropped. A task that throws is logged and its Callback's onError() is called instead of
+ * onResult(), so a failed command never leaves the UI waiting for a result that will not come.
+ *
+ * One scheduler is shared by the whole process through UITable. Its threads are daemons, so they never keep the
+ * process alive.
+ */
+public class TaskScheduler {
+
+    private static final String TAG = TaskScheduler.class.getSimpleName();
+
+    private final ExecutorService gameThread;
+    private final ExecutorService computePool;
+    private final Handler uiHandler;
+
+    public TaskScheduler() {
+        gameThread = Executors.newSingleThreadExecutor(new NamedThreadFactory("YahtzeeGame"));
+        int computeThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        computePool = Executors.newFixedThreadPool(computeThreads, new NamedThreadFactory("YahtzeeCompute"));
+        uiHandler = new Handler(Looper.getMainLooper());
+    }
+
+    /**
+     * Receives the result of a task on the UI thread.
+     */
+    public interface Callback<T> {
+        void onResult(T result);
+
+        /**
+         * Called instead of onResult() if the task threw, so the UI can recover, such as by accepting input again and
+         * showing the last good state. Failures are dropped by the same generation check as results.
+         */
+        void onError(Exception e);
+    }
+
+    /**
+     * Creates a Channel. Each Activity creates its own, so cancelling one never drops another's results.
+     * @param name name of the channel, used in logging
+     */
+    public Channel newChannel(String name) {
+        return new Channel(name);
+    }
+
+    /**
+     * Runs a command on the game thread, after every command submitted before it, and delivers its result to the UI
+     * thread unless the channel is cancelled first.
+     * @param callback receives the result on the UI thread, or null if the result is not needed
+     */
+    public <T> void execute(Channel channel, Callable<T> command, Callback<T> callback) {
+        gameThread.execute(new Delivery<T>(channel, channel.generation.get(), command, callback, false));
+    }
+
+    /**
+     * Runs read-only work on the compute pool and delivers its result to the UI thread. This starts a new generation
+     * of the channel, so earlier work on it that has not been delivered yet is dropped, and cancelled if it has not
+     * started.
+     * @param callback receives the result on the UI thread
+     */
+    public <T> void compute(Channel channel, Callable<T> task, Callback<T> callback) {
+        int generation = channel.generation.incrementAndGet();
+        synchronized (channel) {
+            if (channel.pending != null) {
+                channel.pending.cancel(false);
+            }
+            channel.pending = computePool.submit(new Delivery<T>(channel, generation, task, callback, true));
+        }
+    }
+
+    /**
+     * Runs a Runnable on the UI thread after a delay, unless the channel is cancelled or moves to a new generation first.
+     */
+    public void postDelayed(final Channel channel, final Runnable r, long delayMs) {
+        final int generation = channel.generation.get();
+        uiHandler.postDelayed(new Runnable() {
+            @Override
+            public void run() {
+                if (channel.isCurrent(generation)) {
+                    r.run();
+                }
+            }
+        }, delayMs);
+    }
+
+    /**
+     * Drops every result of a channel that has not been delivered yet, and cancels its compute work that has not
+     * started.
+     */
+    public void cancel(Channel channel) {
+        channel.generation.incrementAndGet();
+        synchronized (channel) {
+            if (channel.pending != null) {
+                channel.pending.cancel(false);
+                channel.pending = null;
+            }
+        }
+    }
+
+    /**
+     * A stream of work whose results can be superseded or cancelled together.
+     */
+    public static class Channel {
+        private final String name;
+        private final AtomicInteger generation = new AtomicInteger();
+
+        // Latest compute work, guarded by this
+        private Future<?> pending;
+
+        private Channel(String name) {
+            this.name = name;
+        }
+
+        boolean isCurrent(int generation) {
+            return this.generation.get() == generation;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * Runs a task and posts its result to the UI thread if its generation is still current by then.
+     */
+    private class Delivery<T> implements Runnable {
+
+        private final Channel channel;
+        private final int generation;
+        private final Callable<T> task;
+        private final Callback<T> callback;
+
+        // Read-only work is skipped entirely once it is stale. Commands always run.
+        private final boolean skipIfStale;
+
+        Delivery(Channel channel, int generation, Callable<T> task, Callback<T> callback, boolean skipIfStale) {
+            this.channel = channel;
+            this.generation = generation;
+            this.task = task;
+            this.callback = callback;
+            this.skipIfStale = skipIfStale;
+        }
+
+        @Override
+        public void run() {
+            if (skipIfStale && !channel.isCurrent(generation)) {
+                return;
+            }
+            T result = null;
+            Exception error = null;
+            try {
+                result = task.call();
+            } catch (Exception e) {
+                if (GameLog.W) GameLog.w(TAG, "Task failed: {}", e);
+                error = e;
+            }
+            if (callback == null || !channel.isCurrent(generation)) {
+                return;
+            }
+            final T delivered = result;
+            final Exception failure = error;
+            uiHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    // Checked again here, in case the channel was cancelled while this message was queued.
+                    if (!channel.isCurrent(generation)) {
+                        return;
+                    }
+                    if (failure != null) {
+                        callback.onError(failure);
+                    } else {
+                        callback.onResult(delivered);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Creates daemon threads named after their role.
+     */
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger count = new AtomicInteger();
+
+        NamedThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
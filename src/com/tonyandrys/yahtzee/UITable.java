@@ -1,9 +1,20 @@
 package com.tonyandrys.yahtzee;
 
 import android.app.Application;
-import android.util.Log;
 
+import com.tonyandrys.yahtzee.bot.Bot;
+import com.tonyandrys.yahtzee.bot.BotPolicy;
+import com.tonyandrys.yahtzee.bot.PolicyCache;
+import com.tonyandrys.yahtzee.engine.GameLog;
+import com.tonyandrys.yahtzee.engine.LatencyRecorder;
+import com.tonyandrys.yahtzee.solver.StateValueTable;
+
+import java.io.File;
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * com.tonyandrys.yahtzee -
@@ -18,14 +29,26 @@ import java.util.HashMap;
  */
 public class UITable extends Application {
 
-    private static final String TAG = UITable.class.getName();
+    private static final String TAG = UITable.class.getSimpleName();
+
+    // Solved StateValueTable used by optimal bots, if it has been installed in the files directory
+    private static final String STATE_VALUE_TABLE_FILE = "state_values.bin";
 
     HashMap<Integer, Integer> scoreTable;
+    DiceFaceAtlas diceFaceAtlas;
+    SnapshotStore snapshotStore;
+    JournalStore journalStore;
+    GameHistoryStore gameHistoryStore;
+    ExecutorService ioExecutor;
+    TaskScheduler taskScheduler;
+    LatencyRecorder latencyRecorder;
+    PolicyCache[] botPolicies;
 
     @Override
     public void onCreate() {
         super.onCreate();
-        Log.v(TAG, "UI Table has been built!");
+        GameLog.setSink(new AndroidLogSink());
+        if (GameLog.V) GameLog.v(TAG, "UI Table has been built!");
     }
 
     public void setScoreTable(HashMap<Integer, Integer> scoreTable) {
@@ -35,4 +58,112 @@ public class UITable extends Application {
     public HashMap<Integer, Integer> getScoreTable() {
         return this.scoreTable;
     }
+
+    /**
+     * Returns the process-wide DiceFaceAtlas, building it on first use.
+     */
+    public DiceFaceAtlas getDiceFaceAtlas() {
+        if (diceFaceAtlas == null) {
+            diceFaceAtlas = new DiceFaceAtlas(getResources());
+        }
+        return diceFaceAtlas;
+    }
+
+    /**
+     * Returns the process-wide SnapshotStore that saves the game in progress.
+     */
+    public SnapshotStore getSnapshotStore() {
+        if (snapshotStore == null) {
+            snapshotStore = new SnapshotStore(getFilesDir(), getIoExecutor());
+        }
+        return snapshotStore;
+    }
+
+    /**
+     * Returns the process-wide JournalStore that records and archives game journals.
+     */
+    public JournalStore getJournalStore() {
+        if (journalStore == null) {
+            journalStore = new JournalStore(getFilesDir(), getIoExecutor());
+        }
+        return journalStore;
+    }
+
+    /**
+     * Returns the process-wide GameHistoryStore that records every finished game.
+     */
+    public GameHistoryStore getGameHistoryStore() {
+        if (gameHistoryStore == null) {
+            gameHistoryStore = new GameHistoryStore(this, getIoExecutor());
+        }
+        return gameHistoryStore;
+    }
+
+    /**
+     * Returns the single background thread that every file write runs on, which keeps writes to the same file in order.
+     */
+    public ExecutorService getIoExecutor() {
+        if (ioExecutor == null) {
+            ioExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "YahtzeeIO");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+        return ioExecutor;
+    }
+
+    /**
+     * Returns the process-wide TaskScheduler that owns the game thread and the compute pool, creating it on first use.
+     */
+    public TaskScheduler getTaskScheduler() {
+        if (taskScheduler == null) {
+            taskScheduler = new TaskScheduler();
+        }
+        return taskScheduler;
+    }
+
+    /**
+     * Returns the process-wide LatencyRecorder that times every roll and score, so its histograms cover every game
+     * played since the process started.
+     */
+    public LatencyRecorder getLatencyRecorder() {
+        if (latencyRecorder == null) {
+            latencyRecorder = new LatencyRecorder();
+        }
+        return latencyRecorder;
+    }
+
+    /**
+     * Returns the process-wide cached policy shared by every bot of a strength, creating it on first use. Optimal bots
+     * play heuristically if no solved StateValueTable is installed. Called from the compute pool, because mapping the
+     * table reads a file.
+     * @param strength Bot.STRENGTH constant
+     */
+    public synchronized BotPolicy getBotPolicy(int strength) {
+        if (botPolicies == null) {
+            botPolicies = new PolicyCache[Bot.STRENGTH_OPTIMAL + 1];
+        }
+        if (botPolicies[strength] == null) {
+            StateValueTable table = null;
+            if (strength == Bot.STRENGTH_OPTIMAL) {
+                File file = new File(getFilesDir(), STATE_VALUE_TABLE_FILE);
+                try {
+                    if (file.exists()) {
+                        table = StateValueTable.map(file, false);
+                    }
+                } catch (IOException e) {
+                    if (GameLog.W) GameLog.w(TAG, "Could not map state value table: {}", e.getMessage());
+                }
+                if (table == null) {
+                    return getBotPolicy(Bot.STRENGTH_HEURISTIC);
+                }
+            }
+            botPolicies[strength] = new PolicyCache(Bot.newPolicy(strength, table), PolicyCache.DEFAULT_CAPACITY);
+        }
+        return botPolicies[strength];
+    }
 }
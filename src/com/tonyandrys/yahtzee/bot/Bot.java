@@ -0,0 +1,152 @@
+package com.tonyandrys.yahtzee.bot;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.Game;
+import com.tonyandrys.yahtzee.engine.HandTable;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+import com.tonyandrys.yahtzee.engine.ScoreTable;
+import com.tonyandrys.yahtzee.solver.KeepTable;
+import com.tonyandrys.yahtzee.solver.StateValueTable;
+
+/**
+ * com.tonyandrys.yahtzee.bot - Bot
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * A computer player. Each call to decide() returns the bot's next move in a turn: roll the dice, holding some of them,
+ * or score a field. The policy answers for the sorted hand, and the bot maps its keep back onto the positions of the
+ * dice on the board.
+ *
+ * decide() only reads its arguments, so a position can be captured on the UI thread and decided on a background thread
+ * while the game is left untouched.
+ */
+public class Bot {
+
+    // Bot strengths, weakest first
+    public static final int STRENGTH_GREEDY = 0;
+    public static final int STRENGTH_HEURISTIC = 1;
+    public static final int STRENGTH_OPTIMAL = 2;
+
+    private final BotPolicy policy;
+    private final int strength;
+
+    /**
+     * @param policy policy that decides this bot's keeps and fields. It may be shared with other bots if it is a
+     *               PolicyCache.
+     * @param strength STRENGTH constant of the policy
+     */
+    public Bot(BotPolicy policy, int strength) {
+        this.policy = policy;
+        this.strength = strength;
+    }
+
+    /**
+     * Creates the uncached policy of a strength.
+     * @param table solved StateValueTable, required for STRENGTH_OPTIMAL
+     * @throws java.lang.IllegalArgumentException if the strength is unknown, or is STRENGTH_OPTIMAL without a table
+     */
+    public static BotPolicy newPolicy(int strength, StateValueTable table) {
+        switch (strength) {
+            case STRENGTH_GREEDY:
+                return new GreedyPolicy();
+            case STRENGTH_HEURISTIC:
+                return new HeuristicPolicy();
+            case STRENGTH_OPTIMAL:
+                if (table == null) {
+                    throw new IllegalArgumentException("The optimal bot needs a solved StateValueTable!");
+                }
+                return new OptimalPolicy(table);
+            default:
+                throw new IllegalArgumentException("Unknown bot strength " + strength);
+        }
+    }
+
+    /**
+     * Returns a Factory creating uncached policies of a strength, one per worker.
+     * @param table solved StateValueTable, required for STRENGTH_OPTIMAL
+     */
+    public static BotPolicy.Factory policyFactory(final int strength, final StateValueTable table) {
+        return new BotPolicy.Factory() {
+            @Override
+            public BotPolicy newPolicy() {
+                return Bot.newPolicy(strength, table);
+            }
+        };
+    }
+
+    /**
+     * Returns the StateValueTable.stateIndex() of a player's scorecard.
+     */
+    public static int stateIndex(ScoreTable table, int player) {
+        boolean yahtzeeBonus = table.getScore(player, ScoreCard.SCORE_FIELD_YAHTZEE) == ScoreCard.VALUE_YAHTZEE;
+        int upperSubtotal = Math.min(table.getUpperSubtotal(player), StateValueTable.UPPER_SUBTOTAL_CAP);
+        return StateValueTable.stateIndex(table.getUsedMask(player), upperSubtotal, yahtzeeBonus);
+    }
+
+    /**
+     * Decides the bot's next move.
+     * @param stateIndex StateValueTable.stateIndex() of the bot's scorecard
+     * @param rollsLeft rolls left in this turn. With Game.ROLLS_PER_ROUND left the dice have not been rolled yet.
+     * @param dice values of the dice on the board, ignored before the first roll
+     */
+    public Move decide(int stateIndex, int rollsLeft, int[] dice) {
+        if (rollsLeft == Game.ROLLS_PER_ROUND) {
+            return Move.roll(0);
+        }
+        int handIndex = HandTable.indexOf(dice);
+        if (rollsLeft > 0) {
+            int keep = policy.chooseKeep(stateIndex, rollsLeft, handIndex);
+            if (KeepTable.getSize(keep) < Board.DICE_COUNT) {
+                return Move.roll(holdMask(dice, keep));
+            }
+        }
+        return Move.score(policy.chooseField(stateIndex, handIndex));
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Returns the hold mask that keeps the dice of a keep, holding the first dice of each value on the board.
+     */
+    static int holdMask(int[] dice, int keep) {
+        int[] counts = new int[6];
+        KeepTable.getCounts(keep, counts);
+        int mask = 0;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            if (counts[dice[i]-1] > 0) {
+                counts[dice[i]-1]--;
+                mask |= (1 << i);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * One move of a bot: roll with some dice held, or score a field.
+     */
+    public static class Move {
+        public final boolean roll;
+        public final int holdMask;
+        public final int field;
+
+        private Move(boolean roll, int holdMask, int field) {
+            this.roll = roll;
+            this.holdMask = holdMask;
+            this.field = field;
+        }
+
+        static Move roll(int holdMask) {
+            return new Move(true, holdMask, -1);
+        }
+
+        static Move score(int SCORE_FIELD) {
+            return new Move(false, 0, SCORE_FIELD);
+        }
+    }
+}
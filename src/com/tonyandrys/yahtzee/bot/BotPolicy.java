@@ -0,0 +1,44 @@
+package com.tonyandrys.yahtzee.bot;
+
+/**
+ * com.tonyandrys.yahtzee.bot - BotPolicy
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Decides the moves of a computer player. A position is described only by the StateValueTable.stateIndex() of the
+ * player's scorecard, the rolls left in the turn and the hand index of the dice, so the order of the dice never matters
+ * and equal positions always get the same answer.
+ *
+ * Policies may keep scratch state, so an instance must only be used by one thread at a time. Workers that evaluate a
+ * policy in parallel each create their own through a Factory.
+ */
+public interface BotPolicy {
+
+    /**
+     * Chooses the dice to keep before the next roll.
+     * @param stateIndex StateValueTable.stateIndex() of the player's scorecard
+     * @param rollsLeft rolls left in this turn, 1 or 2
+     * @param handIndex HandTable.indexOf() of the current dice
+     * @return KeepTable keep index of the dice to hold. Keeping all five dice ends the turn's rolling early.
+     */
+    int chooseKeep(int stateIndex, int rollsLeft, int handIndex);
+
+    /**
+     * Chooses the field to score the current dice in.
+     * @param stateIndex StateValueTable.stateIndex() of the player's scorecard
+     * @param handIndex HandTable.indexOf() of the current dice
+     * @return ScoreCard.SCORE_FIELD constant of an open field
+     */
+    int chooseField(int stateIndex, int handIndex);
+
+    /**
+     * Creates an independent BotPolicy instance for each worker.
+     */
+    interface Factory {
+        BotPolicy newPolicy();
+    }
+}
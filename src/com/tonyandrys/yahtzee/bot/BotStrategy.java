@@ -0,0 +1,53 @@
+package com.tonyandrys.yahtzee.bot;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.Game;
+import com.tonyandrys.yahtzee.sim.Strategy;
+import com.tonyandrys.yahtzee.solver.StateValueTable;
+
+/**
+ * com.tonyandrys.yahtzee.bot - BotStrategy
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Plays a Bot through the Strategy interface, so the Simulator can measure the average score of each bot strength.
+ */
+public class BotStrategy implements Strategy {
+
+    private final Bot bot;
+    private final int[] dice = new int[Board.DICE_COUNT];
+
+    public BotStrategy(Bot bot) {
+        this.bot = bot;
+    }
+
+    /**
+     * Returns a Factory giving every simulation worker its own uncached policy of a strength.
+     * @param table solved StateValueTable, required for Bot.STRENGTH_OPTIMAL
+     */
+    public static Factory factory(final int strength, final StateValueTable table) {
+        return new Factory() {
+            @Override
+            public Strategy newStrategy() {
+                return new BotStrategy(new Bot(Bot.newPolicy(strength, table), strength));
+            }
+        };
+    }
+
+    @Override
+    public int chooseHold(Game game) {
+        game.getBoard().getDiceValues(dice);
+        Bot.Move move = bot.decide(StateValueTable.stateIndex(game.getScoreCard()), game.getRollsLeft(), dice);
+        return move.roll ? move.holdMask : HOLD_ALL;
+    }
+
+    @Override
+    public int chooseField(Game game) {
+        game.getBoard().getDiceValues(dice);
+        return bot.decide(StateValueTable.stateIndex(game.getScoreCard()), 0, dice).field;
+    }
+}
@@ -0,0 +1,58 @@
+package com.tonyandrys.yahtzee.bot;
+
+import com.tonyandrys.yahtzee.engine.HandTable;
+import com.tonyandrys.yahtzee.engine.Rules;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+import com.tonyandrys.yahtzee.solver.KeepTable;
+import com.tonyandrys.yahtzee.solver.StateValueTable;
+
+/**
+ * com.tonyandrys.yahtzee.bot - GreedyPolicy
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Weakest bot, playing like GreedyStrategy: keeps the most common dice value (the higher value on ties) and scores the
+ * open field worth the most points right now.
+ */
+public class GreedyPolicy implements BotPolicy {
+
+    private final int[] counts = new int[6];
+
+    @Override
+    public int chooseKeep(int stateIndex, int rollsLeft, int handIndex) {
+        HandTable.getCounts(handIndex, counts);
+        int bestValue = 5;
+        for (int v=4; v>=0; v--) {
+            if (counts[v] > counts[bestValue]) {
+                bestValue = v;
+            }
+        }
+        for (int v=0; v<6; v++) {
+            if (v != bestValue) {
+                counts[v] = 0;
+            }
+        }
+        return KeepTable.indexOfCounts(counts);
+    }
+
+    @Override
+    public int chooseField(int stateIndex, int handIndex) {
+        int fieldMask = StateValueTable.getFieldMask(stateIndex);
+        int bestField = -1;
+        int bestPoints = -1;
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            if ((fieldMask & (1 << i)) == 0) {
+                int points = Rules.getPoints(fieldMask, handIndex, i);
+                if (points > bestPoints) {
+                    bestPoints = points;
+                    bestField = i;
+                }
+            }
+        }
+        return bestField;
+    }
+}
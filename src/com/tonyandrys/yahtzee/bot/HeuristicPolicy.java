@@ -0,0 +1,113 @@
+package com.tonyandrys.yahtzee.bot;
+
+import com.tonyandrys.yahtzee.engine.HandTable;
+import com.tonyandrys.yahtzee.engine.Rules;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+import com.tonyandrys.yahtzee.solver.KeepTable;
+import com.tonyandrys.yahtzee.solver.StateValueTable;
+import com.tonyandrys.yahtzee.solver.TurnEvaluator;
+
+/**
+ * com.tonyandrys.yahtzee.bot - HeuristicPolicy
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Middle strength bot that plays each turn well but does not plan the rest of the game. A hand is worth the best
+ * heuristic value of scoring it: the points earned minus the field's par, the average an expert player scores in that
+ * field, plus credit for upper section scores above three of a kind, which move the player towards the upper section
+ * bonus, plus any Yahtzee bonus earned. Keeps are chosen by expectimax over the rest of the turn on those values, using
+ * KeepTable's transition probabilities the same way HoldAdvisor uses a solved StateValueTable.
+ *
+ * Keep values only depend on the scorecard state, so they are computed on the first query of a turn and cached until
+ * the state changes. Scratch arrays are reused, so an instance must only be used by one thread at a time.
+ */
+public class HeuristicPolicy implements BotPolicy {
+
+    // Average score of an expert player in each field, in ScoreCard.SCORE_FIELD order
+    private static final double[] PAR = {1.9, 5.3, 8.6, 12.2, 15.7, 19.2, 21.7, 13.1, 22.6, 29.5, 32.7, 16.9, 22.0};
+
+    // Value of each upper section point towards the bonus
+    private static final double BONUS_WEIGHT = (double)ScoreCard.VALUE_UPPER_HALF_BONUS / ScoreCard.BONUS_THRESHOLD;
+
+    // Hand and keep values with 1 and 2 rolls left for cachedState
+    private final double[] handValues = new double[HandTable.HAND_COUNT];
+    private final double[] keepValues1 = new double[KeepTable.KEEP_COUNT];
+    private final double[] keepValues2 = new double[KeepTable.KEEP_COUNT];
+    private final double[] rollValues = new double[HandTable.HAND_COUNT];
+    private int cachedState = -1;
+
+    @Override
+    public int chooseKeep(int stateIndex, int rollsLeft, int handIndex) {
+        if (rollsLeft < 1 || rollsLeft > 2) {
+            throw new IllegalArgumentException("Keeps can only be chosen with 1 or 2 rolls left! Received: " + rollsLeft);
+        }
+        if (stateIndex != cachedState) {
+            computeKeepValues(stateIndex);
+        }
+        double[] keepValues = (rollsLeft == 1) ? keepValues1 : keepValues2;
+        int end = KeepTable.getHandKeepEnd(handIndex);
+        int bestKeep = KeepTable.getHandKeep(KeepTable.getHandKeepStart(handIndex));
+        for (int i=KeepTable.getHandKeepStart(handIndex); i<end; i++) {
+            int keep = KeepTable.getHandKeep(i);
+            if (keepValues[keep] > keepValues[bestKeep]) {
+                bestKeep = keep;
+            }
+        }
+        return bestKeep;
+    }
+
+    @Override
+    public int chooseField(int stateIndex, int handIndex) {
+        int bestField = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            double value = getFieldValue(stateIndex, handIndex, i);
+            if (value > bestValue) {
+                bestValue = value;
+                bestField = i;
+            }
+        }
+        return bestField;
+    }
+
+    /**
+     * Returns the heuristic value of scoring a hand in a field, or Double.NEGATIVE_INFINITY if the field is used or the
+     * joker rules forbid it.
+     */
+    static double getFieldValue(int stateIndex, int handIndex, int field) {
+        int fieldMask = StateValueTable.getFieldMask(stateIndex);
+        int points = ((fieldMask & (1 << field)) != 0) ? Rules.NOT_ALLOWED : Rules.getPoints(fieldMask, handIndex, field);
+        if (points == Rules.NOT_ALLOWED) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        double value = points - PAR[field];
+        if (field <= ScoreCard.SCORE_FIELD_SIXES && StateValueTable.getUpperSubtotal(stateIndex) < ScoreCard.BONUS_THRESHOLD) {
+            value += BONUS_WEIGHT * (points - (3 * (field + 1)));
+        }
+        if (Rules.earnsYahtzeeBonus(StateValueTable.hasYahtzeeBonus(stateIndex), handIndex)) {
+            value += ScoreCard.VALUE_YAHTZEE_BONUS;
+        }
+        return value;
+    }
+
+    /**
+     * Computes the value of every keep with 1 and 2 rolls left in a state.
+     */
+    private void computeKeepValues(int stateIndex) {
+        for (int h=0; h<HandTable.HAND_COUNT; h++) {
+            double best = Double.NEGATIVE_INFINITY;
+            for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+                best = Math.max(best, getFieldValue(stateIndex, h, i));
+            }
+            handValues[h] = best;
+        }
+        TurnEvaluator.expectKeeps(handValues, keepValues1);
+        TurnEvaluator.bestKeeps(keepValues1, rollValues);
+        TurnEvaluator.expectKeeps(rollValues, keepValues2);
+        cachedState = stateIndex;
+    }
+}
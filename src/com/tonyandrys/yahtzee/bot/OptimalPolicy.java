@@ -0,0 +1,57 @@
+package com.tonyandrys.yahtzee.bot;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.HandTable;
+import com.tonyandrys.yahtzee.solver.HoldAdvisor;
+import com.tonyandrys.yahtzee.solver.KeepTable;
+import com.tonyandrys.yahtzee.solver.StateValueTable;
+
+/**
+ * com.tonyandrys.yahtzee.bot - OptimalPolicy
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Strongest bot, playing like OptimalStrategy: every keep and field is chosen by a HoldAdvisor reading a solved
+ * StateValueTable, which maximizes the player's expected final score.
+ */
+public class OptimalPolicy implements BotPolicy {
+
+    private final HoldAdvisor advisor;
+    private final double[] holdValues = new double[HoldAdvisor.HOLD_MASK_COUNT];
+    private final int[] counts = new int[6];
+    private final int[] dice = new int[Board.DICE_COUNT];
+
+    public OptimalPolicy(StateValueTable table) {
+        this.advisor = new HoldAdvisor(table);
+    }
+
+    @Override
+    public int chooseKeep(int stateIndex, int rollsLeft, int handIndex) {
+        toDice(handIndex);
+        int holdMask = advisor.advise(dice, rollsLeft, stateIndex, holdValues);
+        return KeepTable.indexOf(dice, holdMask);
+    }
+
+    @Override
+    public int chooseField(int stateIndex, int handIndex) {
+        toDice(handIndex);
+        return advisor.bestField(dice, stateIndex);
+    }
+
+    /**
+     * Lays the dice of a hand out in ascending order.
+     */
+    private void toDice(int handIndex) {
+        HandTable.getCounts(handIndex, counts);
+        int d = 0;
+        for (int v=0; v<6; v++) {
+            for (int c=0; c<counts[v]; c++) {
+                dice[d++] = v + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.tonyandrys.yahtzee.bot;
+
+import com.tonyandrys.yahtzee.engine.Game;
+import com.tonyandrys.yahtzee.engine.HandTable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * com.tonyandrys.yahtzee.bot - PolicyCache
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * A BotPolicy that remembers the decisions of another. Each decision is stored under its position, (scorecard state,
+ * rolls left, hand), packed into one int, so a position that has been seen before is answered with a single map lookup
+ * no matter how expensive the wrapped policy is. Field choices are stored with 0 rolls left.
+ *
+ * The map is a LinkedHashMap in access order, so once it holds `capacity` positions the least recently used one is
+ * evicted for each new position.
+ *
+ * All methods are synchronized, so one cache, and the policy behind it, can be shared by every bot of the same strength.
+ */
+public class PolicyCache implements BotPolicy {
+
+    // Positions remembered by default: about 1 MB of entries
+    public static final int DEFAULT_CAPACITY = 16384;
+
+    private final BotPolicy policy;
+    private final LinkedHashMap<Integer, Integer> decisions;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param policy policy to ask about positions that are not cached
+     * @param capacity maximum number of positions to remember
+     */
+    public PolicyCache(BotPolicy policy, final int capacity) {
+        this.policy = policy;
+        this.decisions = new LinkedHashMap<Integer, Integer>(capacity + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    @Override
+    public synchronized int chooseKeep(int stateIndex, int rollsLeft, int handIndex) {
+        Integer key = positionKey(stateIndex, rollsLeft, handIndex);
+        Integer keep = decisions.get(key);
+        if (keep != null) {
+            hits++;
+            return keep;
+        }
+        misses++;
+        int decision = policy.chooseKeep(stateIndex, rollsLeft, handIndex);
+        decisions.put(key, decision);
+        return decision;
+    }
+
+    @Override
+    public synchronized int chooseField(int stateIndex, int handIndex) {
+        Integer key = positionKey(stateIndex, 0, handIndex);
+        Integer field = decisions.get(key);
+        if (field != null) {
+            hits++;
+            return field;
+        }
+        misses++;
+        int decision = policy.chooseField(stateIndex, handIndex);
+        decisions.put(key, decision);
+        return decision;
+    }
+
+    public synchronized int size() {
+        return decisions.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Packs a position into a map key. State indexes are below 2^20, so the key fits in 30 bits.
+     */
+    private static int positionKey(int stateIndex, int rollsLeft, int handIndex) {
+        return (((stateIndex * Game.ROLLS_PER_ROUND) + rollsLeft) * HandTable.HAND_COUNT) + handIndex;
+    }
+}
@@ -0,0 +1,256 @@
+package com.tonyandrys.yahtzee.bot;
+
+import com.tonyandrys.yahtzee.engine.Game;
+import com.tonyandrys.yahtzee.engine.HandTable;
+import com.tonyandrys.yahtzee.solver.KeepTable;
+import com.tonyandrys.yahtzee.solver.StateValueTable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * com.tonyandrys.yahtzee.bot - PolicyEvaluation
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Exact results of a PolicyEvaluator run: the expected final score of a policy and its variance, and how much of the
+ * optimal expected score each kind of decision gives away.
+ *
+ * Decisions are grouped by the rolls left when they are made: 2 and 1 for keeps, 0 for choosing a field. A decision's
+ * loss is the optimal value of the best choice minus the optimal value of the policy's choice, and every total below
+ * weighs it by the probability that the policy reaches the decision in a game. The losses of all decisions add up to
+ * the optimal expected score minus the policy's.
+ *
+ * Like SimulationResult, partial results are combined with merge(), which only adds counters.
+ */
+public class PolicyEvaluation {
+
+    // Number of costliest decisions kept for the report
+    public static final int WORST_DECISION_COUNT = 10;
+
+    // Losses at or below this are ties with the best choice
+    public static final double LOSS_EPSILON = 1e-6;
+
+    private double expectedScore;
+    private double scoreVariance;
+    private double optimalScore;
+    private int reachableStates;
+
+    // Per rolls left: expected number of decisions per game, of suboptimal ones, and expected points lost
+    private final double[] decisions = new double[Game.ROLLS_PER_ROUND];
+    private final double[] suboptimalDecisions = new double[Game.ROLLS_PER_ROUND];
+    private final double[] loss = new double[Game.ROLLS_PER_ROUND];
+
+    // Costliest decisions by weighted loss, costliest first
+    private final List<Decision> worstDecisions = new ArrayList<Decision>();
+
+    /**
+     * Records one decision of the policy.
+     * @param probability probability of reaching the decision in a game
+     * @param decisionLoss optimal value of the best choice minus that of the policy's choice
+     * @param choice KeepTable keep index, or ScoreCard.SCORE_FIELD constant with 0 rolls left
+     * @param bestChoice optimal keep index or field
+     */
+    void addDecision(int stateIndex, int rollsLeft, int handIndex, int choice, int bestChoice, double probability, double decisionLoss) {
+        decisions[rollsLeft] += probability;
+        loss[rollsLeft] += probability * decisionLoss;
+        if (decisionLoss > LOSS_EPSILON) {
+            suboptimalDecisions[rollsLeft] += probability;
+            addWorstDecision(new Decision(stateIndex, rollsLeft, handIndex, choice, bestChoice, probability, decisionLoss));
+        }
+    }
+
+    /**
+     * Adds the decisions of another result to this one.
+     */
+    public void merge(PolicyEvaluation other) {
+        for (int i=0; i<Game.ROLLS_PER_ROUND; i++) {
+            decisions[i] += other.decisions[i];
+            suboptimalDecisions[i] += other.suboptimalDecisions[i];
+            loss[i] += other.loss[i];
+        }
+        for (Decision d : other.worstDecisions) {
+            addWorstDecision(d);
+        }
+        reachableStates += other.reachableStates;
+    }
+
+    void setScore(double expectedScore, double scoreVariance, double optimalScore) {
+        this.expectedScore = expectedScore;
+        this.scoreVariance = scoreVariance;
+        this.optimalScore = optimalScore;
+    }
+
+    void addReachableStates(int count) {
+        reachableStates += count;
+    }
+
+    private void addWorstDecision(Decision decision) {
+        int i = worstDecisions.size();
+        while (i > 0 && worstDecisions.get(i-1).getWeightedLoss() < decision.getWeightedLoss()) {
+            i--;
+        }
+        if (i < WORST_DECISION_COUNT) {
+            worstDecisions.add(i, decision);
+            if (worstDecisions.size() > WORST_DECISION_COUNT) {
+                worstDecisions.remove(WORST_DECISION_COUNT);
+            }
+        }
+    }
+
+    public double getExpectedScore() {
+        return expectedScore;
+    }
+
+    public double getScoreVariance() {
+        return scoreVariance;
+    }
+
+    public double getScoreStandardDeviation() {
+        return Math.sqrt(Math.max(0, scoreVariance));
+    }
+
+    /**
+     * Returns the expected score of the optimal policy, read from the solved table.
+     */
+    public double getOptimalScore() {
+        return optimalScore;
+    }
+
+    /**
+     * Returns the number of scorecard states the policy reaches with a non-zero probability.
+     */
+    public int getReachableStates() {
+        return reachableStates;
+    }
+
+    /**
+     * Returns the expected number of decisions made per game with some rolls left.
+     * @param rollsLeft 2 or 1 for keeps, 0 for fields
+     */
+    public double getDecisions(int rollsLeft) {
+        return decisions[rollsLeft];
+    }
+
+    /**
+     * Returns the expected number of suboptimal decisions made per game with some rolls left.
+     */
+    public double getSuboptimalDecisions(int rollsLeft) {
+        return suboptimalDecisions[rollsLeft];
+    }
+
+    /**
+     * Returns the expected points per game lost to decisions made with some rolls left.
+     */
+    public double getLoss(int rollsLeft) {
+        return loss[rollsLeft];
+    }
+
+    /**
+     * Returns the expected points per game lost to all decisions.
+     */
+    public double getTotalLoss() {
+        double total = 0;
+        for (int i=0; i<Game.ROLLS_PER_ROUND; i++) {
+            total += loss[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the costliest decisions by loss weighted by their probability, costliest first.
+     */
+    public List<Decision> getWorstDecisions() {
+        return worstDecisions;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Reachable states: ").append(reachableStates).append('\n');
+        sb.append("Score: mean ").append(String.format("%.4f", expectedScore))
+                .append(", sd ").append(String.format("%.4f", getScoreStandardDeviation()))
+                .append(", optimal ").append(String.format("%.4f", optimalScore)).append('\n');
+        sb.append("Points lost: ").append(String.format("%.4f", getTotalLoss()))
+                .append(" (optimal - mean = ").append(String.format("%.4f", optimalScore - expectedScore)).append(")\n");
+        for (int rollsLeft=Game.ROLLS_PER_ROUND-1; rollsLeft>=0; rollsLeft--) {
+            sb.append((rollsLeft == 0) ? "Fields" : "Keeps with " + rollsLeft + " rolls left")
+                    .append(": ").append(String.format("%.3f", decisions[rollsLeft])).append(" per game, ")
+                    .append(String.format("%.3f", suboptimalDecisions[rollsLeft])).append(" suboptimal, ")
+                    .append(String.format("%.4f", loss[rollsLeft])).append(" points lost\n");
+        }
+        sb.append("Costliest decisions:\n");
+        for (Decision d : worstDecisions) {
+            sb.append("  ").append(d).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * One suboptimal decision of the policy.
+     */
+    public static class Decision {
+        public final int stateIndex;
+        public final int rollsLeft;
+        public final int handIndex;
+        public final int choice;
+        public final int bestChoice;
+        public final double probability;
+        public final double loss;
+
+        Decision(int stateIndex, int rollsLeft, int handIndex, int choice, int bestChoice, double probability, double loss) {
+            this.stateIndex = stateIndex;
+            this.rollsLeft = rollsLeft;
+            this.handIndex = handIndex;
+            this.choice = choice;
+            this.bestChoice = bestChoice;
+            this.probability = probability;
+            this.loss = loss;
+        }
+
+        /**
+         * Returns the expected points per game this decision loses.
+         */
+        public double getWeightedLoss() {
+            return probability * loss;
+        }
+
+        @Override
+        public String toString() {
+            int[] counts = new int[6];
+            HandTable.getCounts(handIndex, counts);
+            StringBuilder sb = new StringBuilder();
+            sb.append("fields ").append(Integer.toBinaryString(StateValueTable.getFieldMask(stateIndex)))
+                    .append(", upper ").append(StateValueTable.getUpperSubtotal(stateIndex))
+                    .append(StateValueTable.hasYahtzeeBonus(stateIndex) ? ", Yahtzee scored" : "")
+                    .append(", dice ").append(countsToString(counts))
+                    .append(", ").append(rollsLeft).append(" rolls left: ");
+            if (rollsLeft == 0) {
+                sb.append("field ").append(choice).append(" instead of ").append(bestChoice);
+            } else {
+                KeepTable.getCounts(choice, counts);
+                sb.append("keep ").append(countsToString(counts));
+                KeepTable.getCounts(bestChoice, counts);
+                sb.append(" instead of ").append(countsToString(counts));
+            }
+            sb.append(", p ").append(String.format("%.3g", probability))
+                    .append(", loses ").append(String.format("%.3f", loss))
+                    .append(" (").append(String.format("%.4f", getWeightedLoss())).append(" per game)");
+            return sb.toString();
+        }
+
+        private static String countsToString(int[] counts) {
+            StringBuilder sb = new StringBuilder("[");
+            for (int v=0; v<6; v++) {
+                for (int i=0; i<counts[v]; i++) {
+                    sb.append(v + 1);
+                }
+            }
+            return sb.append(']').toString();
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.tonyandrys.yahtzee.bot;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.HandTable;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+import com.tonyandrys.yahtzee.solver.KeepTable;
+import com.tonyandrys.yahtzee.solver.StateValueTable;
+import com.tonyandrys.yahtzee.solver.TurnEvaluator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * com.tonyandrys.yahtzee.bot - PolicyEvaluator
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Computes the exact expected final score and variance of a BotPolicy, and the points each of its decisions gives away
+ * against the optimal policy, by taking the expectation over every dice outcome instead of sampling games.
+ *
+ * A policy only sees the StateValueTable.stateIndex() of the scorecard, so its play from a state never depends on how
+ * the state was reached, and the game is a Markov chain over the same states the Solver fills. Two passes walk the
+ * states one layer of used fields at a time, splitting each layer across a fixed thread pool like the Solver does:
+ *   - Forward, from the empty scorecard: the probability of reaching each state, and within its round, of reaching
+ *     each hand with each number of rolls left. Every decision is scored against the solved table's optimal values,
+ *     and states the policy never reaches are skipped by the second pass.
+ *   - Backward, from 12 used fields: the expected remaining score of each reached state and its second moment, memoized
+ *     in arrays indexed by state. Points earned in a round come from Rules, through TurnEvaluator.
+ *
+ * Each task collects its successor probabilities and decisions on its own, and they are added in task order once the
+ * layer finishes, so a run gives the same result on any number of threads.
+ *
+ * Usage: java com.tonyandrys.yahtzee.bot.PolicyEvaluator <state value table file> [greedy|heuristic|optimal] [threads]
+ */
+public class PolicyEvaluator {
+
+    // Number of field masks handed to a worker at once
+    private static final int MASKS_PER_TASK = 16;
+
+    // Number of (upper subtotal, Yahtzee bonus flag) slots of a field mask
+    private static final int SLOTS_PER_MASK = (StateValueTable.UPPER_SUBTOTAL_CAP + 1) * 2;
+
+    // Names of the Bot.STRENGTH constants, in order
+    private static final String[] STRENGTH_NAMES = {"greedy", "heuristic", "optimal"};
+
+    private PolicyEvaluator() {
+    }
+
+    /**
+     * Evaluates a policy exactly.
+     * @param factory creates the policy of each task
+     * @param table solved StateValueTable the decisions are scored against
+     * @param threadCount number of worker threads
+     */
+    public static PolicyEvaluation evaluate(BotPolicy.Factory factory, StateValueTable table, int threadCount) throws InterruptedException {
+        double[] reach = new double[StateValueTable.STATE_COUNT];
+        double[] mean = new double[StateValueTable.STATE_COUNT];
+        double[] second = new double[StateValueTable.STATE_COUNT];
+        int start = StateValueTable.stateIndex(0, 0, false);
+        reach[start] = 1;
+
+        PolicyEvaluation evaluation = new PolicyEvaluation();
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+        try {
+            for (int usedFields=0; usedFields<ScoreCard.NUMBER_OF_FIELDS; usedFields++) {
+                List<Callable<ForwardResult>> tasks = new ArrayList<Callable<ForwardResult>>();
+                for (int[] masks : splitLayer(usedFields)) {
+                    tasks.add(new ForwardTask(factory, table, reach, masks));
+                }
+                for (ForwardResult result : runAll(pool, tasks)) {
+                    for (int i=0; i<result.size; i++) {
+                        reach[result.states[i]] += result.probabilities[i];
+                    }
+                    evaluation.merge(result.evaluation);
+                }
+            }
+            evaluation.addReachableStates(countReached(reach));
+
+            for (int usedFields=ScoreCard.NUMBER_OF_FIELDS-1; usedFields>=0; usedFields--) {
+                List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+                for (int[] masks : splitLayer(usedFields)) {
+                    tasks.add(new BackwardTask(factory, reach, mean, second, masks));
+                }
+                runAll(pool, tasks);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        double expected = mean[start];
+        evaluation.setScore(expected, second[start] - (expected * expected), table.getValue(start));
+        return evaluation;
+    }
+
+    /**
+     * Splits the field masks with `usedFields` bits set into groups of MASKS_PER_TASK.
+     */
+    private static List<int[]> splitLayer(int usedFields) {
+        List<int[]> groups = new ArrayList<int[]>();
+        int[] masks = new int[MASKS_PER_TASK];
+        int maskCount = 0;
+        for (int mask=0; mask<=StateValueTable.FULL_FIELD_MASK; mask++) {
+            if (Integer.bitCount(mask) != usedFields) {
+                continue;
+            }
+            masks[maskCount++] = mask;
+            if (maskCount == MASKS_PER_TASK) {
+                groups.add(masks);
+                masks = new int[MASKS_PER_TASK];
+                maskCount = 0;
+            }
+        }
+        if (maskCount > 0) {
+            groups.add(Arrays.copyOf(masks, maskCount));
+        }
+        return groups;
+    }
+
+    /**
+     * Runs a layer of tasks and returns their results in task order once all of them are done.
+     */
+    private static <T> List<T> runAll(ExecutorService pool, List<Callable<T>> tasks) throws InterruptedException {
+        List<T> results = new ArrayList<T>();
+        for (Future<T> f : pool.invokeAll(tasks)) {
+            try {
+                results.add(f.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Policy evaluation task failed", e.getCause());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Counts the states reached before the last round is scored.
+     */
+    private static int countReached(double[] reach) {
+        int count = 0;
+        for (int state=0; state<StateValueTable.STATE_COUNT; state++) {
+            if (reach[state] > 0 && StateValueTable.getFieldMask(state) != StateValueTable.FULL_FIELD_MASK) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the state of a field mask and a slot holding (upper subtotal << 1 | Yahtzee bonus flag).
+     */
+    private static int stateOf(int mask, int slot) {
+        return StateValueTable.stateIndex(mask, slot >> 1, (slot & 1) != 0);
+    }
+
+    /**
+     * Successor probabilities and decisions of one forward task.
+     */
+    private static class ForwardResult {
+        final PolicyEvaluation evaluation = new PolicyEvaluation();
+        int[] states = new int[256];
+        double[] probabilities = new double[256];
+        int size;
+
+        void add(int state, double probability) {
+            if (size == states.length) {
+                states = Arrays.copyOf(states, size * 2);
+                probabilities = Arrays.copyOf(probabilities, size * 2);
+            }
+            states[size] = state;
+            probabilities[size] = probability;
+            size++;
+        }
+    }
+
+    /**
+     * Pushes the reached states of a group of masks through one round of the policy.
+     */
+    private static class ForwardTask implements Callable<ForwardResult> {
+
+        private final BotPolicy.Factory factory;
+        private final StateValueTable table;
+        private final double[] reach;
+        private final int[] masks;
+
+        // Optimal value of each hand with 0/1/2 rolls left, and of each keep with 1/2 rolls left
+        private final double[] handValues0 = new double[HandTable.HAND_COUNT];
+        private final double[] handValues1 = new double[HandTable.HAND_COUNT];
+        private final double[] handValues2 = new double[HandTable.HAND_COUNT];
+        private final double[] keepValues1 = new double[KeepTable.KEEP_COUNT];
+        private final double[] keepValues2 = new double[KeepTable.KEEP_COUNT];
+
+        // Probability of each hand with 2/1/0 rolls left, and of each keep before a roll
+        private final double[] handProbabilities2 = new double[HandTable.HAND_COUNT];
+        private final double[] handProbabilities1 = new double[HandTable.HAND_COUNT];
+        private final double[] handProbabilities0 = new double[HandTable.HAND_COUNT];
+        private final double[] keepProbabilities = new double[KeepTable.KEEP_COUNT];
+
+        // Probability of each successor of the current state, [SCORE_FIELD * SLOTS_PER_MASK + slot]
+        private final double[] successors = new double[ScoreCard.NUMBER_OF_FIELDS * SLOTS_PER_MASK];
+
+        ForwardTask(BotPolicy.Factory factory, StateValueTable table, double[] reach, int[] masks) {
+            this.factory = factory;
+            this.table = table;
+            this.reach = reach;
+            this.masks = masks;
+        }
+
+        @Override
+        public ForwardResult call() {
+            BotPolicy policy = factory.newPolicy();
+            TurnEvaluator evaluator = new TurnEvaluator(table);
+            ForwardResult result = new ForwardResult();
+            for (int mask : masks) {
+                for (int slot=0; slot<SLOTS_PER_MASK; slot++) {
+                    int state = stateOf(mask, slot);
+                    if (reach[state] > 0) {
+                        playRound(policy, evaluator, state, mask, result);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private void playRound(BotPolicy policy, TurnEvaluator evaluator, int state, int mask, ForwardResult result) {
+            double stateProbability = reach[state];
+            evaluator.scoreHands(state, handValues0);
+            TurnEvaluator.expectKeeps(handValues0, keepValues1);
+            TurnEvaluator.bestKeeps(keepValues1, handValues1);
+            TurnEvaluator.expectKeeps(handValues1, keepValues2);
+            TurnEvaluator.bestKeeps(keepValues2, handValues2);
+
+            // The first roll has nothing held, and reaches every hand.
+            Arrays.fill(handProbabilities2, 0);
+            Arrays.fill(handProbabilities0, 0);
+            Arrays.fill(keepProbabilities, 0);
+            roll(KeepTable.EMPTY_KEEP, 1, handProbabilities2);
+            chooseKeeps(policy, state, 2, handProbabilities2, handValues2, keepValues2, stateProbability, result.evaluation);
+
+            Arrays.fill(handProbabilities1, 0);
+            rollKeeps(handProbabilities1);
+            chooseKeeps(policy, state, 1, handProbabilities1, handValues1, keepValues1, stateProbability, result.evaluation);
+            rollKeeps(handProbabilities0);
+
+            // Score every final hand and collect the successor states.
+            Arrays.fill(successors, 0);
+            for (int h=0; h<HandTable.HAND_COUNT; h++) {
+                double p = handProbabilities0[h];
+                if (p == 0) {
+                    continue;
+                }
+                int field = policy.chooseField(state, h);
+                double value = evaluator.getPlacementValue(state, h, field);
+                result.evaluation.addDecision(state, 0, h, field, evaluator.bestField(state, h), stateProbability * p, handValues0[h] - value);
+
+                int next = TurnEvaluator.getNextState(state, h, field);
+                int slot = (StateValueTable.getUpperSubtotal(next) << 1) | (StateValueTable.hasYahtzeeBonus(next) ? 1 : 0);
+                successors[(field * SLOTS_PER_MASK) + slot] += stateProbability * p;
+            }
+            for (int field=0; field<ScoreCard.NUMBER_OF_FIELDS; field++) {
+                for (int slot=0; slot<SLOTS_PER_MASK; slot++) {
+                    double p = successors[(field * SLOTS_PER_MASK) + slot];
+                    if (p > 0) {
+                        result.add(stateOf(mask | (1 << field), slot), p);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Lets the policy choose a keep for every hand that can be reached with some rolls left. Hands it keeps whole
+         * are scored as they are, and the rest add their probability to the keep to roll next.
+         */
+        private void chooseKeeps(BotPolicy policy, int state, int rollsLeft, double[] handProbabilities, double[] handValues,
+                                 double[] keepValues, double stateProbability, PolicyEvaluation evaluation) {
+            for (int h=0; h<HandTable.HAND_COUNT; h++) {
+                double p = handProbabilities[h];
+                if (p == 0) {
+                    continue;
+                }
+                int keep = policy.chooseKeep(state, rollsLeft, h);
+                double value;
+                if (KeepTable.getSize(keep) == Board.DICE_COUNT) {
+                    value = handValues0[h];
+                    handProbabilities0[h] += p;
+                } else {
+                    value = keepValues[keep];
+                    keepProbabilities[keep] += p;
+                }
+                evaluation.addDecision(state, rollsLeft, h, keep, bestKeep(h, keepValues), stateProbability * p, handValues[h] - value);
+            }
+        }
+
+        /**
+         * Rolls every keep with a probability into handProbabilities, and clears the keep probabilities.
+         */
+        private void rollKeeps(double[] handProbabilities) {
+            for (int k=0; k<KeepTable.KEEP_COUNT; k++) {
+                if (keepProbabilities[k] > 0) {
+                    roll(k, keepProbabilities[k], handProbabilities);
+                    keepProbabilities[k] = 0;
+                }
+            }
+        }
+
+        private static void roll(int keep, double probability, double[] handProbabilities) {
+            int end = KeepTable.getOutcomeEnd(keep);
+            for (int o=KeepTable.getOutcomeStart(keep); o<end; o++) {
+                handProbabilities[KeepTable.getOutcomeHand(o)] += probability * KeepTable.getOutcomeProbability(o);
+            }
+        }
+
+        private static int bestKeep(int handIndex, double[] keepValues) {
+            int end = KeepTable.getHandKeepEnd(handIndex);
+            int best = KeepTable.getHandKeep(KeepTable.getHandKeepStart(handIndex));
+            for (int i=KeepTable.getHandKeepStart(handIndex); i<end; i++) {
+                int keep = KeepTable.getHandKeep(i);
+                if (keepValues[keep] > keepValues[best]) {
+                    best = keep;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Computes the expected remaining score and its second moment of the reached states of a group of masks.
+     */
+    private static class BackwardTask implements Callable<Void> {
+
+        private final BotPolicy.Factory factory;
+        private final double[] reach;
+        private final double[] mean;
+        private final double[] second;
+        private final int[] masks;
+
+        // Remaining score of each hand given the rolls left, and of each keep before a roll: mean and second moment
+        private final double[] handMeans = new double[HandTable.HAND_COUNT];
+        private final double[] handSeconds = new double[HandTable.HAND_COUNT];
+        private final double[] scoredMeans = new double[HandTable.HAND_COUNT];
+        private final double[] scoredSeconds = new double[HandTable.HAND_COUNT];
+        private final double[] keepMeans = new double[KeepTable.KEEP_COUNT];
+        private final double[] keepSeconds = new double[KeepTable.KEEP_COUNT];
+
+        BackwardTask(BotPolicy.Factory factory, double[] reach, double[] mean, double[] second, int[] masks) {
+            this.factory = factory;
+            this.reach = reach;
+            this.mean = mean;
+            this.second = second;
+            this.masks = masks;
+        }
+
+        @Override
+        public Void call() {
+            BotPolicy policy = factory.newPolicy();
+            for (int mask : masks) {
+                for (int slot=0; slot<SLOTS_PER_MASK; slot++) {
+                    int state = stateOf(mask, slot);
+                    if (reach[state] > 0) {
+                        evaluateState(policy, state);
+                    }
+                }
+            }
+            return null;
+        }
+
+        private void evaluateState(BotPolicy policy, int state) {
+            // With no rolls left: points earned now plus the successor's remaining score, X = r + Y, so
+            // E[X] = r + E[Y] and E[X^2] = r^2 + 2r E[Y] + E[Y^2].
+            for (int h=0; h<HandTable.HAND_COUNT; h++) {
+                int field = policy.chooseField(state, h);
+                int earned = TurnEvaluator.getEarnedPoints(state, h, field);
+                int next = TurnEvaluator.getNextState(state, h, field);
+                scoredMeans[h] = earned + mean[next];
+                scoredSeconds[h] = ((double)earned * earned) + (2.0 * earned * mean[next]) + second[next];
+                handMeans[h] = scoredMeans[h];
+                handSeconds[h] = scoredSeconds[h];
+            }
+
+            for (int rollsLeft=1; rollsLeft<=2; rollsLeft++) {
+                TurnEvaluator.expectKeeps(handMeans, keepMeans);
+                TurnEvaluator.expectKeeps(handSeconds, keepSeconds);
+                for (int h=0; h<HandTable.HAND_COUNT; h++) {
+                    int keep = policy.chooseKeep(state, rollsLeft, h);
+                    if (KeepTable.getSize(keep) == Board.DICE_COUNT) {
+                        // Keeping every die ends the rolling, and the hand is scored as it is.
+                        handMeans[h] = scoredMeans[h];
+                        handSeconds[h] = scoredSeconds[h];
+                    } else {
+                        handMeans[h] = keepMeans[keep];
+                        handSeconds[h] = keepSeconds[keep];
+                    }
+                }
+            }
+
+            mean[state] = TurnEvaluator.expectKeep(handMeans, KeepTable.EMPTY_KEEP);
+            second[state] = TurnEvaluator.expectKeep(handSeconds, KeepTable.EMPTY_KEEP);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: PolicyEvaluator <state value table file> [greedy|heuristic|optimal] [threads]");
+            System.exit(1);
+        }
+        StateValueTable table = StateValueTable.map(new File(args[0]), true);
+        String name = (args.length > 1) ? args[1] : "heuristic";
+        int strength = Arrays.asList(STRENGTH_NAMES).indexOf(name.toLowerCase());
+        if (strength < 0) {
+            throw new IllegalArgumentException("Unknown bot strength " + name);
+        }
+        int threads = (args.length > 2) ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        long start = System.nanoTime();
+        PolicyEvaluation evaluation = evaluate(Bot.policyFactory(strength, table), table, threads);
+        long elapsedMs = (System.nanoTime() - start) / 1000000L;
+
+        System.out.println(name + ", " + threads + " threads, " + elapsedMs + " ms");
+        System.out.print(evaluation);
+    }
+}
@@ -0,0 +1,109 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - Board
+ *
+ * @author Tony Andrys
+ *         Created: 11/24/2013
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * The five dice on the table. Board has no Android dependencies so games can be played headlessly.
+ */
+public class Board {
+
+    // Number of dice on the board
+    public static final int DICE_COUNT = 5;
+
+    DiceRng rng;
+
+    // Dice are stored in a basic array from [0-4].
+    private Die[] dice;
+
+    public Board(DiceRng rng) {
+
+        this.rng = rng;
+
+        // Construct five dice objects
+        this.dice = new Die[] {new Die(), new Die(), new Die(), new Die(), new Die()};
+
+        // Roll all 5 dice to generate the first hand.
+        rollDice();
+    }
+
+    /**
+     * Rolls all of the non-held dice on the field in one bulk draw from the DiceRng, through the same packed dice
+     * GameState rolls.
+     */
+    public void rollDice() {
+        long packed = 0;
+        int holdMask = 0;
+        for (int i=0; i<DICE_COUNT; i++) {
+            packed |= (long)dice[i].value << (i * DiceRng.BITS_PER_DIE);
+            if (dice[i].held) {
+                holdMask |= (1 << i);
+            }
+        }
+        packed = rng.rollPacked(packed, holdMask);
+        for (int i=0; i<DICE_COUNT; i++) {
+            dice[i].value = (int)((packed >>> (i * DiceRng.BITS_PER_DIE)) & DiceRng.DIE_MASK);
+        }
+    }
+
+    /**
+     * Compiles the integer values of the current hand and returns as an integer array.
+     * @return int[] of dice values
+     */
+    public int[] getDiceValues() {
+        int[] diceVals = {0, 0, 0, 0, 0};
+        getDiceValues(diceVals);
+        return diceVals;
+    }
+
+    /**
+     * Copies the integer values of the current hand into an existing array.
+     * @param diceValues int[] of length 5 to receive the dice values
+     */
+    public void getDiceValues(int[] diceValues) {
+        for (int i=0; i<DICE_COUNT; i++) {
+            diceValues[i] = dice[i].getValue();
+        }
+    }
+
+    /**
+     * Returns the value of the die at index dieIndex
+     * @param dieIndex Index of die from 0 to 4
+     * @return Value of the die from 1 to 6
+     */
+    public int getDieValue(int dieIndex) {
+        return dice[dieIndex].getValue();
+    }
+
+    /**
+     * Sets the value of a die without rolling it, used to restore a saved game.
+     * @param dieIndex Index of die from 0 to 4
+     * @param value Value of the die from 1 to 6
+     */
+    void setDieValue(int dieIndex, int value) {
+        dice[dieIndex].value = value;
+    }
+
+    /**
+     * Sets the hold status of a die on the board.
+     * @param dieIndex Index of die to roll from 0 to 4.
+     * @param holdDie True to hold this die, false to release it.
+     */
+    public void holdDie(int dieIndex, boolean holdDie) {
+        dice[dieIndex].setHeld(holdDie);
+    }
+
+    /**
+     * Checks if a die is held based on its dieIndex.
+     * @param dieIndex Index of die to check from 0 to 4.
+     * @return Boolean - returns true if die is held, false if it is released.
+     */
+    public boolean isDieHeld(int dieIndex) {
+        return dice[dieIndex].isDieHeld();
+    }
+}
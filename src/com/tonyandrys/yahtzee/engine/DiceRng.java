@@ -0,0 +1,131 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - DiceRng
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Source of dice rolls for Board and GameState.
+ *
+ * Subclasses only provide 64 random bits at a time. Each die is cut from one byte of a draw: bytes of 252 or more are
+ * rejected, and the rest map to a face by their remainder modulo 6. 252 is the largest multiple of 6 that fits in a
+ * byte, so every face is equally likely, and a draw of 8 bytes almost always rolls all five dice, with a rejection rate
+ * of 4/256 per die. java.util.Random.nextInt(6) spends a synchronized 32-bit draw on every die instead.
+ *
+ * Every generator is identified by an ALGORITHM constant, which GameJournal records with the seed so that
+ * GameReplay can recreate the generator with create(). Instances are not thread-safe.
+ */
+public abstract class DiceRng {
+
+    // Generator algorithms. These are written to game journals, so values must never be reused.
+    public static final byte ALGORITHM_JAVA = 1;
+    public static final byte ALGORITHM_SPLITMIX64 = 2;
+    public static final byte ALGORITHM_XOROSHIRO128 = 3;
+    public static final byte ALGORITHM_SECURE = 4;
+    public static final byte ALGORITHM_FIXED = 5;
+
+    // Bytes at or above this value are rejected, so the remainder modulo 6 is unbiased
+    private static final int REJECT_THRESHOLD = 252;
+    private static final int BYTES_PER_DRAW = 8;
+
+    // Layout of packed dice, shared with Board
+    static final int BITS_PER_DIE = 3;
+    static final long DIE_MASK = (1L << BITS_PER_DIE) - 1;
+
+    /**
+     * Returns 64 uniformly distributed random bits.
+     */
+    public abstract long nextLong();
+
+    /**
+     * Returns the ALGORITHM constant of this generator.
+     */
+    public abstract byte getAlgorithm();
+
+    /**
+     * Rolls one die.
+     * @return value of the die from 1 to 6
+     */
+    public int rollDie() {
+        while (true) {
+            long bits = nextLong();
+            for (int i=0; i<BYTES_PER_DRAW; i++) {
+                int b = (int)bits & 0xFF;
+                if (b < REJECT_THRESHOLD) {
+                    return (b % 6) + 1;
+                }
+                bits >>>= 8;
+            }
+        }
+    }
+
+    /**
+     * Rolls every die that is not held, drawing as few 64-bit values as possible. Board and GameState both roll through
+     * this method, so a seeded generator rolls the same dice for either. It allocates nothing.
+     * @param packedDice values of the dice from 1 to 6, 3 bits per die with die i at bit 3 * i
+     * @param holdMask bit i set if die i is held and keeps its value
+     * @return the dice after the roll, packed the same way
+     */
+    public long rollPacked(long packedDice, int holdMask) {
+        long bits = 0;
+        int bytesLeft = 0;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            if ((holdMask & (1 << i)) != 0) {
+                continue;
+            }
+            int b;
+            do {
+                if (bytesLeft == 0) {
+                    bits = nextLong();
+                    bytesLeft = BYTES_PER_DRAW;
+                }
+                b = (int)bits & 0xFF;
+                bits >>>= 8;
+                bytesLeft--;
+            } while (b >= REJECT_THRESHOLD);
+            int shift = i * BITS_PER_DIE;
+            packedDice = (packedDice & ~(DIE_MASK << shift)) | ((long)((b % 6) + 1) << shift);
+        }
+        return packedDice;
+    }
+
+    /**
+     * Same as rollPacked(), for dice held in an array.
+     * @param dice values of the Board.DICE_COUNT dice from 1 to 6, updated in place
+     * @param holdMask bit i set if die i is held and keeps its value
+     */
+    public void rollInto(int[] dice, int holdMask) {
+        long packed = 0;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            packed |= (long)dice[i] << (i * BITS_PER_DIE);
+        }
+        packed = rollPacked(packed, holdMask);
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            dice[i] = (int)((packed >>> (i * BITS_PER_DIE)) & DIE_MASK);
+        }
+    }
+
+    /**
+     * Recreates a seeded generator from its algorithm and seed, such as the ones recorded in a GameJournal.
+     * @throws java.lang.IllegalArgumentException if the algorithm is unknown or cannot be recreated from a seed
+     */
+    public static DiceRng create(byte algorithm, long seed) {
+        switch (algorithm) {
+            case ALGORITHM_JAVA:
+                return new JavaDiceRng(new java.util.Random(seed));
+            case ALGORITHM_SPLITMIX64:
+                return new SplitMix64(seed);
+            case ALGORITHM_XOROSHIRO128:
+                return new Xoroshiro128(seed);
+            case ALGORITHM_SECURE:
+            case ALGORITHM_FIXED:
+                throw new IllegalArgumentException("Dice RNG algorithm " + algorithm + " cannot be recreated from a seed");
+            default:
+                throw new IllegalArgumentException("Unknown dice RNG algorithm " + algorithm);
+        }
+    }
+}
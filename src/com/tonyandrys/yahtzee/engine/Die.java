@@ -0,0 +1,44 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - Die
+ *
+ * @author Tony Andrys
+ *         Created: 11/24/2013
+ *         (C) 2013 - Tony Andrys
+ */
+public class Die {
+
+    int value;
+    boolean held;
+
+    public Die() {
+        this.held = false;
+        this.value = 0;
+    }
+
+    /**
+     * Returns the current value of this die as an integer
+     * @return integer value of face
+     */
+    public int getValue() {
+        return this.value;
+    }
+
+    /**
+     * Sets the held status for this die.
+     * @param holdDie True to hold the die, set false to remove a hold.
+     */
+    public void setHeld(boolean holdDie) {
+        this.held = holdDie;
+    }
+
+    /**
+     * Returns the held status of this die.
+     * @return true if die is held, false if it is released
+     */
+    public boolean isDieHeld() {
+        return this.held;
+    }
+
+}
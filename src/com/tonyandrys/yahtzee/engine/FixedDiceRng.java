@@ -0,0 +1,68 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - FixedDiceRng
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Dice "generator" that rolls a fixed sequence of faces over and over, for scripted games and debugging. Each unheld
+ * die takes the next face of the sequence, in die order.
+ */
+public class FixedDiceRng extends DiceRng {
+
+    private final int[] faces;
+    private int next;
+
+    /**
+     * @param faces die values from 1 to 6, rolled in order and then repeated
+     * @throws java.lang.IllegalArgumentException if faces is empty or holds a value outside 1-6
+     */
+    public FixedDiceRng(int... faces) {
+        if (faces.length == 0) {
+            throw new IllegalArgumentException("A fixed dice sequence needs at least one face");
+        }
+        for (int face : faces) {
+            if (face < 1 || face > 6) {
+                throw new IllegalArgumentException("Invalid die value in fixed dice sequence: " + face);
+            }
+        }
+        this.faces = faces.clone();
+    }
+
+    @Override
+    public int rollDie() {
+        int face = faces[next];
+        next = (next + 1) % faces.length;
+        return face;
+    }
+
+    @Override
+    public void rollInto(int[] dice, int holdMask) {
+        for (int i=0; i<dice.length; i++) {
+            if ((holdMask & (1 << i)) == 0) {
+                dice[i] = rollDie();
+            }
+        }
+    }
+
+    /**
+     * Returns the next 8 faces of the sequence, one per byte, so rolling from the bits gives the same faces.
+     */
+    @Override
+    public long nextLong() {
+        long bits = 0;
+        for (int i=0; i<8; i++) {
+            bits |= (long)(rollDie() - 1) << (i * 8);
+        }
+        return bits;
+    }
+
+    @Override
+    public byte getAlgorithm() {
+        return ALGORITHM_FIXED;
+    }
+}
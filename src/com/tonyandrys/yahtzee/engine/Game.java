@@ -0,0 +1,274 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - Game
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * A single player's game of Yahtzee: the dice on the Board, the player's ScoreCard and the roll/round counters.
+ * Game only enforces the rules and has no Android dependencies, so it can be driven by GameActivity or run headlessly.
+ */
+public class Game {
+
+    // A round allows up to 3 rolls, and a game consists of 13 rounds (one per ScoreCard field).
+    public static final int ROLLS_PER_ROUND = 3;
+    public static final int ROUNDS_PER_GAME = ScoreCard.NUMBER_OF_FIELDS;
+
+    private Board board;
+    private ScoreManager scoreManager;
+    private int rollCount;
+    private int roundCount;
+
+    // Time the player has spent on this game, as reported by the UI
+    private long playTimeMs;
+
+    // Reused buffer for the dice values of the current hand
+    private int[] diceValues;
+
+    // Optional record of this game's events, null unless attached with setEventLog()
+    private GameEventLog events;
+
+    // Optional journal of every hold, roll and score, null unless attached with setJournal()
+    private GameJournal journal;
+
+    // Optional timing of rolls and scores, null unless attached with setLatencyRecorder()
+    private LatencyRecorder latency;
+
+    public Game(DiceRng rng) {
+        board = new Board(rng);
+        scoreManager = new ScoreManager();
+        diceValues = new int[Board.DICE_COUNT];
+        rollCount = ROLLS_PER_ROUND;
+        roundCount = ROUNDS_PER_GAME;
+    }
+
+    /**
+     * Rolls all unheld dice and calculates the possible scores of the new hand.
+     * @throws java.lang.IllegalStateException if no rolls are left in this round or the game is over
+     */
+    public void rollDice() {
+        if (!canRoll()) {
+            throw new IllegalStateException("Cannot roll! Rolls left: " + rollCount + ", rounds left: " + roundCount);
+        }
+        long start = (latency != null) ? System.nanoTime() : 0;
+        board.rollDice();
+        if (latency != null) {
+            start = latency.record(LatencyRecorder.ROLL_RNG, start);
+        }
+        board.getDiceValues(diceValues);
+        scoreManager.calculateHand(diceValues);
+        if (latency != null) {
+            latency.record(LatencyRecorder.ROLL_CALCULATE_HAND, start);
+        }
+        rollCount--;
+        if (GameLog.EVENTS && events != null) {
+            events.recordRoll(board, rollCount);
+        }
+        if (journal != null) {
+            journal.recordRoll(board);
+        }
+    }
+
+    /**
+     * Sets the hold status of a die on the board.
+     * @param dieIndex Index of die from 0 to 4.
+     * @param holdDie True to hold this die, false to release it.
+     */
+    public void holdDie(int dieIndex, boolean holdDie) {
+        board.holdDie(dieIndex, holdDie);
+        if (GameLog.EVENTS && events != null) {
+            events.record(GameEventLog.EVENT_HOLD, dieIndex, holdDie ? 1 : 0);
+        }
+        if (journal != null) {
+            journal.recordHold(dieIndex, holdDie);
+        }
+    }
+
+    /**
+     * Writes the current hand's score for a field to the ScoreCard and starts the next round. A Yahtzee rolled after 50
+     * points were scored in the Yahtzee field also earns a Yahtzee bonus.
+     * @param SCORE_FIELD ScoreCard.SCORE_FIELD constant of the field to score
+     * @return value written to the field, without bonuses
+     * @throws java.lang.IllegalStateException if the dice have not been rolled this round, the field is already set or
+     *                                         the joker rules forbid it
+     */
+    public int scoreField(int SCORE_FIELD) {
+        if (!hasRolled()) {
+            throw new IllegalStateException("Dice must be rolled before scoring!");
+        }
+        if (scoreManager.isScoreFieldSet(SCORE_FIELD)) {
+            throw new IllegalStateException("Cannot write to field " + SCORE_FIELD + "! Already in use.");
+        }
+        if (!scoreManager.canScore(SCORE_FIELD)) {
+            throw new IllegalStateException("Cannot write to field " + SCORE_FIELD + "! The joker rules require another field.");
+        }
+        long start = (latency != null) ? System.nanoTime() : 0;
+        int value = scoreManager.getHandScores()[SCORE_FIELD];
+        ScoreCard card = scoreManager.getScoreCard();
+        boolean bonusApplied = card.isBonusApplied();
+        boolean yahtzeeBonus = Rules.earnsYahtzeeBonus(card.isYahtzeeApplied(), scoreManager.getHandIndex());
+        scoreManager.writeScore(SCORE_FIELD, value);
+        if (yahtzeeBonus) {
+            card.addYahtzeeBonus();
+        }
+        if (journal != null) {
+            journal.recordScore(SCORE_FIELD);
+        }
+        if (GameLog.EVENTS && events != null) {
+            events.record(GameEventLog.EVENT_SCORE, SCORE_FIELD, value);
+            if (!bonusApplied && card.isBonusApplied()) {
+                events.record(GameEventLog.EVENT_BONUS, GameEventLog.BONUS_UPPER, ScoreCard.VALUE_UPPER_HALF_BONUS);
+            }
+            if (yahtzeeBonus) {
+                events.record(GameEventLog.EVENT_BONUS, GameEventLog.BONUS_YAHTZEE, ScoreCard.VALUE_YAHTZEE_BONUS);
+            }
+        }
+        newRound();
+        if (latency != null) {
+            latency.record(LatencyRecorder.SCORE_FIELD, start);
+        }
+        return value;
+    }
+
+    /**
+     * Checks if the current hand can be scored in a field.
+     * @return true if the dice have been rolled this round, the field is open and the joker rules allow it
+     */
+    public boolean canScore(int SCORE_FIELD) {
+        return hasRolled() && scoreManager.canScore(SCORE_FIELD);
+    }
+
+    /**
+     * Restores the dice, holds and counters of a saved game onto this Game. The ScoreCard must already hold the saved
+     * scores, since the round count is taken from the number of fields it has used.
+     * @param diceValues values of the five dice
+     * @param holdMask bit i set if die i is held
+     * @param rollsLeft rolls left in the current round
+     */
+    void restoreRound(int[] diceValues, int holdMask, int rollsLeft) {
+        ScoreCard card = getScoreCard();
+        roundCount = ROUNDS_PER_GAME - Integer.bitCount(card.getUsedMask());
+        rollCount = rollsLeft;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            board.setDieValue(i, diceValues[i]);
+            board.holdDie(i, (holdMask & (1 << i)) != 0);
+        }
+        scoreManager.clearHandScores();
+        if (hasRolled()) {
+            board.getDiceValues(this.diceValues);
+            scoreManager.calculateHand(this.diceValues);
+        }
+    }
+
+    /**
+     * Starts a new round by releasing every die and resetting the roll count back to 3.
+     */
+    private void newRound() {
+        rollCount = ROLLS_PER_ROUND;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            board.holdDie(i, false);
+        }
+        scoreManager.clearHandScores();
+        roundCount--;
+    }
+
+    /**
+     * Checks if the dice can be rolled again this round.
+     * @return true if rolls are left and the game is not over
+     */
+    public boolean canRoll() {
+        return (rollCount > 0) && !isGameOver();
+    }
+
+    /**
+     * Checks if the dice have been rolled at least once this round, which is required before scoring.
+     * @return true if the current hand can be scored
+     */
+    public boolean hasRolled() {
+        return (rollCount < ROLLS_PER_ROUND) && !isGameOver();
+    }
+
+    public boolean isGameOver() {
+        return roundCount == 0;
+    }
+
+    public int getRollsLeft() {
+        return rollCount;
+    }
+
+    public int getRoundsLeft() {
+        return roundCount;
+    }
+
+    /**
+     * Adds time the player spent on this game. Game does not measure time itself.
+     * @param ms milliseconds to add
+     */
+    public void addPlayTime(long ms) {
+        playTimeMs += ms;
+    }
+
+    /**
+     * Returns the time the player has spent on this game in milliseconds.
+     */
+    public long getPlayTime() {
+        return playTimeMs;
+    }
+
+    /**
+     * Attaches a log that rolls, holds, scores and bonuses of this game are recorded to. Headless games leave it unset.
+     * @param events log to record to, or null to stop recording
+     */
+    public void setEventLog(GameEventLog events) {
+        this.events = events;
+    }
+
+    public GameEventLog getEventLog() {
+        return events;
+    }
+
+    /**
+     * Attaches a journal that every hold, roll and score of this game is recorded to, so it can be replayed by
+     * GameReplay. Game never commits the journal; its owner does.
+     * @param journal journal to record to, or null to stop recording
+     */
+    public void setJournal(GameJournal journal) {
+        this.journal = journal;
+    }
+
+    public GameJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Attaches a recorder that the RNG and calculateHand() phases of each roll, and each scoreField(), are timed into.
+     * Simulations leave it unset, so they never read the clock.
+     * @param latency recorder to time into, or null to stop timing
+     */
+    public void setLatencyRecorder(LatencyRecorder latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Packs the current state of this game into a GameState value.
+     */
+    public long getState() {
+        return GameState.of(this);
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public ScoreManager getScoreManager() {
+        return scoreManager;
+    }
+
+    public ScoreCard getScoreCard() {
+        return scoreManager.getScoreCard();
+    }
+}
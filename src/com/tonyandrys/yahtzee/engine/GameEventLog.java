@@ -0,0 +1,166 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - GameEventLog
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Fixed-size ring buffer of structured game events (rolls, holds, scores and bonuses). Recording an event writes two
+ * longs, a timestamp and a packed record, so it allocates nothing and builds no strings. Events are only turned into
+ * text when the buffer is dumped. Once the buffer is full the oldest events are overwritten.
+ *
+ * Record layout: [type, 8 bits][a, 24 bits][b, 32 bits]
+ *   EVENT_ROLL   a = rolls left after the roll, b = dice values, 3 bits per die
+ *   EVENT_HOLD   a = die index, b = 1 if held, 0 if released
+ *   EVENT_SCORE  a = ScoreCard.SCORE_FIELD, b = value written
+ *   EVENT_BONUS  a = BONUS_UPPER or BONUS_YAHTZEE, b = points awarded
+ *
+ * Events are recorded by a single thread, the one that drives the Game.
+ */
+public final class GameEventLog {
+
+    private static final String TAG = GameEventLog.class.getSimpleName();
+
+    // Event types
+    public static final int EVENT_ROLL = 1;
+    public static final int EVENT_HOLD = 2;
+    public static final int EVENT_SCORE = 3;
+    public static final int EVENT_BONUS = 4;
+
+    // Bonus kinds of an EVENT_BONUS
+    public static final int BONUS_UPPER = 0;
+    public static final int BONUS_YAHTZEE = 1;
+
+    private static final String[] EVENT_NAMES = {"?", "roll", "hold", "score", "bonus"};
+
+    private final long[] times;
+    private final long[] records;
+    private final int mask;
+    private long count;
+
+    /**
+     * @param capacity number of events kept, rounded up to a power of two
+     */
+    public GameEventLog(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        times = new long[size];
+        records = new long[size];
+        mask = size - 1;
+        count = 0;
+    }
+
+    public void record(int type, int a, int b) {
+        int slot = (int)count & mask;
+        times[slot] = System.nanoTime();
+        records[slot] = ((long)type << 56) | ((long)(a & 0xFFFFFF) << 32) | (b & 0xFFFFFFFFL);
+        count++;
+    }
+
+    /**
+     * Records a roll of the dice on a Board.
+     */
+    public void recordRoll(Board board, int rollsLeft) {
+        int dice = 0;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            dice |= board.getDieValue(i) << (i * 3);
+        }
+        record(EVENT_ROLL, rollsLeft, dice);
+    }
+
+    /**
+     * Returns the number of events held, at most the capacity.
+     */
+    public int size() {
+        return (int)Math.min(count, records.length);
+    }
+
+    /**
+     * Returns the total number of events recorded, including overwritten ones.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the packed record of a held event.
+     * @param i event from 0 (oldest held) to size() - 1 (newest)
+     */
+    public long getRecord(int i) {
+        return records[(int)(count - size() + i) & mask];
+    }
+
+    /**
+     * Returns the System.nanoTime() at which a held event was recorded.
+     * @param i event from 0 (oldest held) to size() - 1 (newest)
+     */
+    public long getTime(int i) {
+        return times[(int)(count - size() + i) & mask];
+    }
+
+    public static int getType(long record) {
+        return (int)(record >>> 56);
+    }
+
+    public static int getA(long record) {
+        return (int)(record >>> 32) & 0xFFFFFF;
+    }
+
+    public static int getB(long record) {
+        return (int)record;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Formats a packed record as text.
+     */
+    public static String format(long record) {
+        int type = getType(record);
+        int a = getA(record);
+        int b = getB(record);
+        StringBuilder sb = new StringBuilder((type < EVENT_NAMES.length) ? EVENT_NAMES[type] : EVENT_NAMES[0]);
+        switch (type) {
+            case EVENT_ROLL:
+                sb.append(" dice=");
+                for (int i=0; i<Board.DICE_COUNT; i++) {
+                    sb.append((b >>> (i * 3)) & 7);
+                }
+                sb.append(" rollsLeft=").append(a);
+                break;
+            case EVENT_HOLD:
+                sb.append(" die=").append(a).append((b != 0) ? " held" : " released");
+                break;
+            case EVENT_SCORE:
+                sb.append(" field=").append(a).append(" value=").append(b);
+                break;
+            case EVENT_BONUS:
+                sb.append((a == BONUS_UPPER) ? " upper" : " yahtzee").append(" value=").append(b);
+                break;
+            default:
+                sb.append(" a=").append(a).append(" b=").append(b);
+                break;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes every held event to GameLog at DEBUG level, oldest first, with its time relative to the newest event.
+     */
+    public void dump() {
+        if (!GameLog.isLoggable(GameLog.DEBUG, TAG)) {
+            return;
+        }
+        int n = size();
+        long last = (n > 0) ? getTime(n - 1) : 0;
+        for (int i=0; i<n; i++) {
+            long ageMs = (last - getTime(i)) / 1000000L;
+            GameLog.log(GameLog.DEBUG, TAG, "-" + ageMs + "ms " + format(getRecord(i)));
+        }
+    }
+}
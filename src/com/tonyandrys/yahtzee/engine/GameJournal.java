@@ -0,0 +1,243 @@
+package com.tonyandrys.yahtzee.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * com.tonyandrys.yahtzee.engine - GameJournal
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Append-only record of everything that happens in a Game, from which GameReplay can rebuild the game.
+ *
+ * A journal starts with the algorithm and seed of the DiceRng the game's Board rolls with, followed by every hold, roll
+ * and score in order. Rolls also record the dice they produced, so a replay can verify that the seeded dice came out
+ * the same, or apply the recorded dice if they did not. A game resumed from a GameSnapshot continues its journal with
+ * a checkpoint holding the snapshot and the algorithm and seed of its new DiceRng.
+ *
+ * Records are collected in memory and written to the file by commit(), which also forces them to storage. Game commits
+ * nothing itself: the owner calls commit() at round boundaries, and may call it from another thread, since records
+ * keep being collected into a second buffer while the first one is written. The file is only opened by the first
+ * commit(), so every file operation happens on the thread that commits.
+ *
+ * File layout (little-endian): int MAGIC, short VERSION, then records of a one byte type followed by:
+ *   RECORD_BEGIN       byte DiceRng.ALGORITHM, long seed, long start time (ms since the epoch)
+ *   RECORD_CHECKPOINT  byte DiceRng.ALGORITHM, long seed, byte[GameSnapshot.SIZE] snapshot
+ *   RECORD_HOLD        byte die index, plus 0x80 if the die is held
+ *   RECORD_ROLL        short dice values, 3 bits per die
+ *   RECORD_SCORE       byte ScoreCard.SCORE_FIELD
+ */
+public class GameJournal {
+
+    static final int MAGIC = 0x595A4A4E; // "YZJN"
+    static final short VERSION = 3;
+    static final int HEADER_SIZE = 6;
+
+    // Record types
+    static final byte RECORD_BEGIN = 1;
+    static final byte RECORD_CHECKPOINT = 2;
+    static final byte RECORD_HOLD = 3;
+    static final byte RECORD_ROLL = 4;
+    static final byte RECORD_SCORE = 5;
+
+    // A whole game is a few hundred bytes, so the buffers rarely grow.
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private final File path;
+    private final boolean resumed;
+    private final Object commitLock = new Object();
+    private RandomAccessFile file;
+    private FileChannel channel;
+
+    // Records not yet committed, and the buffer being written by commit()
+    private ByteBuffer pending;
+    private ByteBuffer writing;
+
+    private GameJournal(File path, boolean resumed) {
+        this.path = path;
+        this.resumed = resumed;
+        this.pending = ByteBuffer.allocate(INITIAL_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        this.writing = ByteBuffer.allocate(INITIAL_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Starts a new journal for a new game. The first commit() replaces any existing file.
+     * @param algorithm DiceRng.ALGORITHM of the generator the game's Board was created with
+     * @param seed seed of that generator
+     */
+    public static GameJournal create(File file, byte algorithm, long seed) {
+        GameJournal journal = new GameJournal(file, false);
+        journal.pending.putInt(MAGIC).putShort(VERSION);
+        journal.pending.put(RECORD_BEGIN).put(algorithm).putLong(seed).putLong(System.currentTimeMillis());
+        return journal;
+    }
+
+    /**
+     * Continues the journal of a resumed game. A checkpoint of the game as resumed is recorded first, so the replay stays
+     * correct even if records after the last commit were lost. The first commit() appends to the file, or starts it
+     * over if it is missing or is not a journal, in which case it holds only the checkpoint and what follows it.
+     * @param algorithm DiceRng.ALGORITHM of the generator the resumed game rolls with
+     * @param seed seed of that generator
+     * @param snapshot GameSnapshot of the resumed game
+     */
+    public static GameJournal resume(File file, byte algorithm, long seed, byte[] snapshot) {
+        GameJournal journal = new GameJournal(file, true);
+        journal.reserve(1 + 1 + 8 + snapshot.length);
+        journal.pending.put(RECORD_CHECKPOINT).put(algorithm).putLong(seed).put(snapshot);
+        return journal;
+    }
+
+    /**
+     * Opens the file on the first commit, positioned where records are appended. Called while holding commitLock.
+     */
+    private void open() throws IOException {
+        file = new RandomAccessFile(path, "rw");
+        channel = file.getChannel();
+        if (!resumed) {
+            channel.truncate(0);
+            return;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (channel.size() >= HEADER_SIZE) {
+            channel.read(header, 0);
+        }
+        if (header.getInt(0) == MAGIC && header.getShort(4) == VERSION) {
+            channel.position(channel.size());
+        } else {
+            channel.truncate(0);
+            header.clear();
+            header.putInt(MAGIC).putShort(VERSION).flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        }
+    }
+
+    public synchronized void recordHold(int dieIndex, boolean held) {
+        reserve(2);
+        pending.put(RECORD_HOLD).put((byte)(dieIndex | (held ? 0x80 : 0)));
+    }
+
+    /**
+     * Records a roll and the dice it produced.
+     */
+    public synchronized void recordRoll(Board board) {
+        int dice = 0;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            dice |= board.getDieValue(i) << (i * 3);
+        }
+        reserve(3);
+        pending.put(RECORD_ROLL).putShort((short)dice);
+    }
+
+    public synchronized void recordScore(int SCORE_FIELD) {
+        reserve(2);
+        pending.put(RECORD_SCORE).put((byte)SCORE_FIELD);
+    }
+
+    /**
+     * Writes every record collected so far to the file and forces it to storage. Records can still be collected by
+     * other threads while this runs. If the write fails, the records it did not write are kept ahead of any collected
+     * since, so the next commit() picks up exactly where this one stopped.
+     */
+    public void commit() throws IOException {
+        synchronized (commitLock) {
+            if (file == null) {
+                try {
+                    open();
+                } catch (IOException e) {
+                    // Start over on the next commit rather than append to a file in an unknown state
+                    if (file != null) {
+                        try {
+                            file.close();
+                        } catch (IOException ignored) {
+                            // Already failing with e
+                        }
+                    }
+                    file = null;
+                    channel = null;
+                    throw e;
+                }
+            }
+            ByteBuffer out;
+            synchronized (this) {
+                out = pending;
+                pending = writing;
+                writing = out;
+            }
+            out.flip();
+            if (!out.hasRemaining()) {
+                out.clear();
+                return;
+            }
+            try {
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+                channel.force(false);
+            } finally {
+                requeue(out);
+            }
+        }
+    }
+
+    /**
+     * Commits any remaining records and closes the file.
+     */
+    public void close() throws IOException {
+        synchronized (commitLock) {
+            try {
+                commit();
+            } finally {
+                if (file != null) {
+                    file.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the buffer commit() wrote from to use as the next write buffer. Bytes a failed write left in it are moved
+     * back into the pending buffer, ahead of the records collected while it was written, so no record is lost or
+     * written twice.
+     */
+    private synchronized void requeue(ByteBuffer out) {
+        if (!out.hasRemaining()) {
+            out.clear();
+            return;
+        }
+        // Move the unwritten bytes to the start of out, then append the newer records after them.
+        out.compact();
+        pending.flip();
+        if (out.remaining() < pending.remaining()) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + pending.remaining())).order(ByteOrder.LITTLE_ENDIAN);
+            out.flip();
+            larger.put(out);
+            out = larger;
+        }
+        out.put(pending);
+        pending.clear();
+        writing = pending;
+        pending = out;
+    }
+
+    /**
+     * Makes room for n more bytes in the pending buffer. Called while holding this journal's lock.
+     */
+    private void reserve(int n) {
+        if (pending.remaining() < n) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + n)).order(ByteOrder.LITTLE_ENDIAN);
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.tonyandrys.yahtzee.engine;
+
+import com.tonyandrys.yahtzee.BuildConfig;
+
+/**
+ * com.tonyandrys.yahtzee.engine - GameLog
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Logging facade for the game and engine. Messages go to a pluggable Sink, which the Android app points at
+ * android.util.Log and headless tools may point anywhere. With no sink installed, nothing is logged.
+ *
+ * ENABLED and LEVEL are build flags. LEVEL follows BuildConfig.DEBUG, which the Android ant build generates as a
+ * constant for each build: "ant debug" keeps every level, and "ant release" strips VERBOSE, DEBUG and INFO calls from
+ * the APK while keeping warnings, errors and the event ring, which costs almost nothing until it is dumped. Headless
+ * builds of the engine compile against the BuildConfig in headless/, which keeps every level. Setting ENABLED to false
+ * strips every log call and event record. Guard each call with the constant of its level:
+ *
+ *   if (GameLog.V) GameLog.v(TAG, "Wrote {} to field {}", value, field);
+ *
+ * When the level is compiled out, the constant is false and javac drops the whole statement, arguments included.
+ * When it is compiled in, a message is only formatted if the sink accepts it. Messages take "{}" placeholders and
+ * int arguments, so a call that is not logged builds no strings and boxes nothing.
+ */
+public final class GameLog {
+
+    // Log levels, equal to the android.util.Log priorities
+    public static final int VERBOSE = 2;
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+
+    // Build flags: set ENABLED to false to strip every log call and event record. LEVEL strips the levels below it,
+    // keeping only warnings and errors in release builds.
+    public static final boolean ENABLED = true;
+    public static final int LEVEL = BuildConfig.DEBUG ? VERBOSE : WARN;
+
+    // Call guards. Each is a compile-time constant whenever BuildConfig.DEBUG is one, as in every ant and headless build.
+    public static final boolean V = ENABLED && LEVEL <= VERBOSE;
+    public static final boolean D = ENABLED && LEVEL <= DEBUG;
+    public static final boolean I = ENABLED && LEVEL <= INFO;
+    public static final boolean W = ENABLED && LEVEL <= WARN;
+    public static final boolean E = ENABLED && LEVEL <= ERROR;
+    public static final boolean EVENTS = ENABLED;
+
+    /**
+     * Destination of formatted log messages.
+     */
+    public interface Sink {
+
+        /**
+         * Checks if messages of a level and tag would be written, before any formatting is done.
+         */
+        boolean isLoggable(int level, String tag);
+
+        void println(int level, String tag, String message);
+    }
+
+    private static volatile Sink sink;
+
+    private GameLog() {
+    }
+
+    /**
+     * Installs the destination of all log messages.
+     * @param newSink sink to write to, or null to discard every message
+     */
+    public static void setSink(Sink newSink) {
+        sink = newSink;
+    }
+
+    public static boolean isLoggable(int level, String tag) {
+        Sink s = sink;
+        return ENABLED && level >= LEVEL && s != null && s.isLoggable(level, tag);
+    }
+
+    public static void log(int level, String tag, String message) {
+        Sink s = sink;
+        if (ENABLED && level >= LEVEL && s != null && s.isLoggable(level, tag)) {
+            s.println(level, tag, message);
+        }
+    }
+
+    public static void log(int level, String tag, String format, int arg) {
+        Sink s = sink;
+        if (ENABLED && level >= LEVEL && s != null && s.isLoggable(level, tag)) {
+            s.println(level, tag, format(format, String.valueOf(arg), null));
+        }
+    }
+
+    public static void log(int level, String tag, String format, int arg1, int arg2) {
+        Sink s = sink;
+        if (ENABLED && level >= LEVEL && s != null && s.isLoggable(level, tag)) {
+            s.println(level, tag, format(format, String.valueOf(arg1), String.valueOf(arg2)));
+        }
+    }
+
+    public static void log(int level, String tag, String format, Object arg) {
+        Sink s = sink;
+        if (ENABLED && level >= LEVEL && s != null && s.isLoggable(level, tag)) {
+            s.println(level, tag, format(format, String.valueOf(arg), null));
+        }
+    }
+
+    public static void v(String tag, String message) {
+        log(VERBOSE, tag, message);
+    }
+
+    public static void v(String tag, String format, int arg) {
+        log(VERBOSE, tag, format, arg);
+    }
+
+    public static void v(String tag, String format, int arg1, int arg2) {
+        log(VERBOSE, tag, format, arg1, arg2);
+    }
+
+    public static void d(String tag, String message) {
+        log(DEBUG, tag, message);
+    }
+
+    public static void d(String tag, String format, int arg) {
+        log(DEBUG, tag, format, arg);
+    }
+
+    public static void d(String tag, String format, Object arg) {
+        log(DEBUG, tag, format, arg);
+    }
+
+    public static void w(String tag, String message) {
+        log(WARN, tag, message);
+    }
+
+    public static void w(String tag, String format, Object arg) {
+        log(WARN, tag, format, arg);
+    }
+
+    public static void e(String tag, String message) {
+        log(ERROR, tag, message);
+    }
+
+    public static void e(String tag, String format, int arg) {
+        log(ERROR, tag, format, arg);
+    }
+
+    /**
+     * Replaces the first two "{}" placeholders of a format with arguments.
+     */
+    private static String format(String format, String arg1, String arg2) {
+        StringBuilder sb = new StringBuilder(format.length() + 16);
+        int start = 0;
+        String[] args = {arg1, arg2};
+        for (String arg : args) {
+            int p = format.indexOf("{}", start);
+            if (arg == null || p < 0) {
+                break;
+            }
+            sb.append(format, start, p).append(arg);
+            start = p + 2;
+        }
+        return sb.append(format, start, format.length()).toString();
+    }
+}
@@ -0,0 +1,185 @@
+package com.tonyandrys.yahtzee.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * com.tonyandrys.yahtzee.engine - GameReplay
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Rebuilds a Game from a GameJournal by playing its records back through Game, Board and ScoreManager. Scores are
+ * recomputed by the current rules, so replaying an old journal re-scores that game under any rule changes made since.
+ *
+ * Each roll is replayed with the journal's seeded DiceRng, the same way the game rolled it originally. If the dice do
+ * not match the ones recorded (the game rolled with a generator that cannot be seeded, for example), the recorded dice
+ * are applied instead and the roll is counted as a divergence.
+ *
+ * Usage: java com.tonyandrys.yahtzee.engine.GameReplay <journal file>
+ */
+public class GameReplay {
+
+    private final Game game;
+    private final int recordCount;
+    private final int divergenceCount;
+
+    private GameReplay(Game game, int recordCount, int divergenceCount) {
+        this.game = game;
+        this.recordCount = recordCount;
+        this.divergenceCount = divergenceCount;
+    }
+
+    /**
+     * @return the rebuilt Game, as it stood after the last record of the journal
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * @return number of rolls whose seeded dice did not match the recorded dice
+     */
+    public int getDivergenceCount() {
+        return divergenceCount;
+    }
+
+    /**
+     * Replays a journal file.
+     * @throws java.io.IOException if the file cannot be read or is not a valid journal
+     */
+    public static GameReplay replay(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocate((int)channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the whole file is buffered
+            }
+            buffer.flip();
+            return replay(buffer);
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Replays a journal held in a buffer, from its position to its limit.
+     * @throws java.io.IOException if the buffer is not a valid journal
+     */
+    public static GameReplay replay(ByteBuffer journal) throws IOException {
+        ByteBuffer in = journal.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (in.remaining() < GameJournal.HEADER_SIZE || in.getInt() != GameJournal.MAGIC) {
+            throw new IOException("Not a game journal");
+        }
+        short version = in.getShort();
+        if (version != GameJournal.VERSION) {
+            throw new IOException("Unsupported game journal version " + version + ", expected " + GameJournal.VERSION);
+        }
+
+        Game game = null;
+        int[] recorded = new int[Board.DICE_COUNT];
+        byte[] snapshot = new byte[GameSnapshot.SIZE];
+        int records = 0;
+        int divergences = 0;
+        try {
+            while (in.hasRemaining()) {
+                byte type = in.get();
+                if (game == null && type != GameJournal.RECORD_BEGIN && type != GameJournal.RECORD_CHECKPOINT) {
+                    throw new IOException("Game journal record " + records + " comes before the game begins");
+                }
+                switch (type) {
+                    case GameJournal.RECORD_BEGIN:
+                        byte algorithm = in.get();
+                        game = new Game(replayRng(algorithm, in.getLong()));
+                        in.getLong();
+                        break;
+                    case GameJournal.RECORD_CHECKPOINT:
+                        byte checkpointAlgorithm = in.get();
+                        long seed = in.getLong();
+                        in.get(snapshot);
+                        game = GameSnapshot.decode(snapshot, replayRng(checkpointAlgorithm, seed));
+                        break;
+                    case GameJournal.RECORD_HOLD:
+                        int hold = in.get();
+                        game.holdDie(hold & 0x7F, (hold & 0x80) != 0);
+                        break;
+                    case GameJournal.RECORD_ROLL:
+                        int dice = in.getShort();
+                        game.rollDice();
+                        Board board = game.getBoard();
+                        boolean diverged = false;
+                        for (int i=0; i<Board.DICE_COUNT; i++) {
+                            recorded[i] = (dice >>> (i * 3)) & 7;
+                            diverged |= (recorded[i] != board.getDieValue(i));
+                        }
+                        if (diverged) {
+                            game.restoreRound(recorded, GameState.getHoldMask(game.getState()), game.getRollsLeft());
+                            divergences++;
+                        }
+                        break;
+                    case GameJournal.RECORD_SCORE:
+                        game.scoreField(in.get());
+                        break;
+                    default:
+                        throw new IOException("Unknown game journal record type " + type + " at record " + records);
+                }
+                records++;
+            }
+        } catch (java.nio.BufferUnderflowException e) {
+            throw new IOException("Game journal is truncated at record " + records);
+        } catch (IllegalStateException e) {
+            throw new IOException("Game journal record " + records + " breaks the rules: " + e.getMessage());
+        }
+        if (game == null) {
+            throw new IOException("Game journal holds no game");
+        }
+        return new GameReplay(game, records, divergences);
+    }
+
+    /**
+     * Recreates the generator a journaled game rolled with. Generators that cannot be seeded are replaced by a
+     * SplitMix64, whose rolls then diverge and are replaced by the recorded dice.
+     * @throws java.io.IOException if the algorithm is unknown
+     */
+    private static DiceRng replayRng(byte algorithm, long seed) throws IOException {
+        if (algorithm == DiceRng.ALGORITHM_SECURE || algorithm == DiceRng.ALGORITHM_FIXED) {
+            return new SplitMix64(seed);
+        }
+        try {
+            return DiceRng.create(algorithm, seed);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: GameReplay <journal file>");
+            System.exit(1);
+        }
+        long start = System.nanoTime();
+        GameReplay replay = replay(new File(args[0]));
+        long elapsedUs = (System.nanoTime() - start) / 1000L;
+
+        Game game = replay.getGame();
+        ScoreCard card = game.getScoreCard();
+        System.out.println("Replayed " + replay.getRecordCount() + " records in " + elapsedUs + " us, " + replay.getDivergenceCount() + " divergent rolls.");
+        System.out.println(GameState.toString(game.getState()));
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            System.out.println("  field " + i + ": " + (card.isScoreFieldSet(i) ? Integer.toString(card.getPlayerScore(i)) : "-"));
+        }
+        System.out.println("Total: " + card.getTotalScore() + (game.isGameOver() ? " (game over)" : ""));
+    }
+}
@@ -0,0 +1,116 @@
+package com.tonyandrys.yahtzee.engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32;
+
+/**
+ * com.tonyandrys.yahtzee.engine - GameSnapshot
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Compact binary record of a complete Game, used to save a game in progress and resume it later.
+ *
+ * The dice, holds, roll count, used fields, upper subtotal, Yahtzee count and total score are stored as the packed
+ * GameState. The value of every field follows, one byte each, since no field can score more than 50, and then the
+ * play time in seconds. The round count is the number of open fields and is not stored. Restoring writes the field
+ * values back through ScoreCard.setPlayerScore(), so totals and the upper bonus are recomputed by the same rules that
+ * built them, and then checked against the saved total.
+ *
+ * Layout (little-endian, SIZE bytes):
+ *   0  int    MAGIC
+ *   4  short  VERSION
+ *   6  long   GameState
+ *   14 byte[] value of each of the 13 fields
+ *   27 int    play time in seconds
+ *   31 int    CRC32 of bytes 0-30
+ */
+public final class GameSnapshot {
+
+    private static final int MAGIC = 0x595A534E; // "YZSN"
+    private static final short VERSION = 2;
+    private static final int OFFSET_VERSION = 4;
+    private static final int OFFSET_STATE = 6;
+    private static final int OFFSET_FIELDS = 14;
+    private static final int OFFSET_PLAY_TIME = OFFSET_FIELDS + ScoreCard.NUMBER_OF_FIELDS;
+    private static final int OFFSET_CHECKSUM = OFFSET_PLAY_TIME + 4;
+
+    // Size of an encoded snapshot in bytes
+    public static final int SIZE = OFFSET_CHECKSUM + 4;
+
+    private GameSnapshot() {
+    }
+
+    /**
+     * Encodes the current state of a Game.
+     * @return snapshot of SIZE bytes
+     */
+    public static byte[] encode(Game game) {
+        ScoreCard card = game.getScoreCard();
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putShort(VERSION).putLong(GameState.of(game));
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            buffer.put((byte)card.getPlayerScore(i));
+        }
+        buffer.putInt((int)Math.min(game.getPlayTime() / 1000L, Integer.MAX_VALUE));
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, OFFSET_CHECKSUM);
+        buffer.putInt((int)crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Rebuilds a Game from a snapshot written by encode().
+     * @param snapshot encoded snapshot
+     * @param rng Dice generator the restored game rolls with
+     * @return restored Game
+     * @throws java.io.IOException if the snapshot is not of this version, is damaged, or does not describe a valid game
+     */
+    public static Game decode(byte[] snapshot, DiceRng rng) throws IOException {
+        if (snapshot == null || snapshot.length != SIZE) {
+            throw new IOException("Not a game snapshot");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(snapshot).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a game snapshot");
+        }
+        if (buffer.getShort(OFFSET_VERSION) != VERSION) {
+            throw new IOException("Unsupported game snapshot version " + buffer.getShort(OFFSET_VERSION) + ", expected " + VERSION);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(snapshot, 0, OFFSET_CHECKSUM);
+        if ((int)crc.getValue() != buffer.getInt(OFFSET_CHECKSUM)) {
+            throw new IOException("Game snapshot failed its checksum");
+        }
+
+        long state = buffer.getLong(OFFSET_STATE);
+        int[] diceValues = new int[Board.DICE_COUNT];
+        GameState.getDiceValues(state, diceValues);
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            if (diceValues[i] < 1 || diceValues[i] > 6) {
+                throw new IOException("Game snapshot holds an invalid die value: " + diceValues[i]);
+            }
+        }
+
+        Game game = new Game(rng);
+        ScoreCard card = game.getScoreCard();
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            if (GameState.isScoreFieldSet(state, i)) {
+                card.setPlayerScore(i, snapshot[OFFSET_FIELDS + i] & 0xFF);
+            }
+        }
+        card.setYahtzeeCount(GameState.getYahtzeeCount(state));
+        game.addPlayTime(buffer.getInt(OFFSET_PLAY_TIME) * 1000L);
+        game.restoreRound(diceValues, GameState.getHoldMask(state), GameState.getRollsLeft(state));
+
+        if (card.getTotalScore() != GameState.getTotalScore(state)) {
+            throw new IOException("Game snapshot total " + GameState.getTotalScore(state) + " does not match its fields (" + card.getTotalScore() + ")");
+        }
+        return game;
+    }
+}
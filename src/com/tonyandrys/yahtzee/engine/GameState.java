@@ -0,0 +1,296 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - GameState
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * The complete state of a single player's game packed into one long, with static methods to read it and to apply the
+ * roll, hold and score transitions that Game performs.
+ *
+ * A state is an immutable value: transitions return a new long and never allocate, so states can be copied freely
+ * while searching, used directly as cache keys and sent as 8 bytes. Scoring and rolling follow the same rules as Game
+ * and ScoreCard, so a state produced by these transitions always equals of() of a Game driven the same way, and with
+ * the same seeded DiceRng it rolls the same dice.
+ *
+ * Bit layout, from the least significant bit:
+ *   0  13 bits  mask of used fields, bit i set once ScoreCard field i is scored
+ *   13  7 bits  upper section subtotal (0-105), without the bonus
+ *   20  4 bits  number of Yahtzees scored: the 50 in the Yahtzee field, then each bonus Yahtzee
+ *   24 15 bits  dice values, 3 bits per die (1-6, or 0 before the first roll)
+ *   39  5 bits  hold mask, bit i set if die i is held
+ *   44  2 bits  rolls taken this round (0-3)
+ *   46 12 bits  total score, including the upper section and Yahtzee bonuses
+ *   58  6 bits  unused, always 0
+ */
+public final class GameState {
+
+    private static final int MASK_SHIFT = 0;
+    private static final int UPPER_SHIFT = 13;
+    private static final int YAHTZEE_COUNT_SHIFT = 20;
+    private static final int DICE_SHIFT = 24;
+    private static final int HOLD_SHIFT = 39;
+    private static final int ROLLS_SHIFT = 44;
+    private static final int TOTAL_SHIFT = 46;
+
+    private static final long MASK_BITS = (1L << ScoreCard.NUMBER_OF_FIELDS) - 1;
+    private static final long UPPER_BITS = (1L << 7) - 1;
+    private static final long YAHTZEE_COUNT_BITS = (1L << 4) - 1;
+    private static final long DIE_BITS = (1L << 3) - 1;
+    private static final long HOLD_BITS = (1L << Board.DICE_COUNT) - 1;
+    private static final long ROLLS_BITS = (1L << 2) - 1;
+    private static final long TOTAL_BITS = (1L << 12) - 1;
+
+    // Bits of each die value within a state, and of all five together
+    private static final int BITS_PER_DIE = 3;
+    private static final long ALL_DICE_BITS = ((1L << (BITS_PER_DIE * Board.DICE_COUNT)) - 1) << DICE_SHIFT;
+
+    // State of a new game: every field open, no dice rolled yet.
+    public static final long NEW_GAME = 0L;
+
+    private GameState() {
+    }
+
+    /**
+     * Packs the current state of a Game.
+     */
+    public static long of(Game game) {
+        ScoreCard card = game.getScoreCard();
+        Board board = game.getBoard();
+        long state = 0L;
+        state |= (long)card.getUsedMask() << MASK_SHIFT;
+        state |= (long)card.getUpperSubtotal() << UPPER_SHIFT;
+        state |= (long)card.getYahtzeeCount() << YAHTZEE_COUNT_SHIFT;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            state = withDieValue(state, i, board.getDieValue(i));
+            if (board.isDieHeld(i)) {
+                state |= 1L << (HOLD_SHIFT + i);
+            }
+        }
+        state |= (long)(Game.ROLLS_PER_ROUND - game.getRollsLeft()) << ROLLS_SHIFT;
+        state |= (long)card.getTotalScore() << TOTAL_SHIFT;
+        return state;
+    }
+
+    public static int getFieldMask(long state) {
+        return (int)((state >>> MASK_SHIFT) & MASK_BITS);
+    }
+
+    public static boolean isScoreFieldSet(long state, int SCORE_FIELD) {
+        return (state & (1L << (MASK_SHIFT + SCORE_FIELD))) != 0;
+    }
+
+    /**
+     * Returns the sum of the upper section fields, without the bonus.
+     */
+    public static int getUpperSubtotal(long state) {
+        return (int)((state >>> UPPER_SHIFT) & UPPER_BITS);
+    }
+
+    public static int getYahtzeeCount(long state) {
+        return (int)((state >>> YAHTZEE_COUNT_SHIFT) & YAHTZEE_COUNT_BITS);
+    }
+
+    /**
+     * Returns the value of a die.
+     * @param dieIndex Index of die from 0 to 4
+     * @return Value of the die from 1 to 6, or 0 if the dice have never been rolled
+     */
+    public static int getDieValue(long state, int dieIndex) {
+        return (int)((state >>> (DICE_SHIFT + (dieIndex * BITS_PER_DIE))) & DIE_BITS);
+    }
+
+    /**
+     * Copies the values of the five dice into an existing array.
+     * @param diceValues int[] of length 5 to receive the dice values
+     */
+    public static void getDiceValues(long state, int[] diceValues) {
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            diceValues[i] = getDieValue(state, i);
+        }
+    }
+
+    public static int getHoldMask(long state) {
+        return (int)((state >>> HOLD_SHIFT) & HOLD_BITS);
+    }
+
+    public static boolean isDieHeld(long state, int dieIndex) {
+        return (state & (1L << (HOLD_SHIFT + dieIndex))) != 0;
+    }
+
+    public static int getRollsLeft(long state) {
+        return Game.ROLLS_PER_ROUND - (int)((state >>> ROLLS_SHIFT) & ROLLS_BITS);
+    }
+
+    public static int getRoundsLeft(long state) {
+        return Game.ROUNDS_PER_GAME - Integer.bitCount(getFieldMask(state));
+    }
+
+    public static int getTotalScore(long state) {
+        return (int)((state >>> TOTAL_SHIFT) & TOTAL_BITS);
+    }
+
+    public static boolean isGameOver(long state) {
+        return getFieldMask(state) == MASK_BITS;
+    }
+
+    /**
+     * Same as Game.canRoll().
+     */
+    public static boolean canRoll(long state) {
+        return (getRollsLeft(state) > 0) && !isGameOver(state);
+    }
+
+    /**
+     * Same as Game.hasRolled().
+     */
+    public static boolean hasRolled(long state) {
+        return (getRollsLeft(state) < Game.ROLLS_PER_ROUND) && !isGameOver(state);
+    }
+
+    /**
+     * Returns the HandTable index of the current dice.
+     * @throws java.lang.IllegalStateException if the dice have never been rolled
+     */
+    public static int getHandIndex(long state) {
+        int key = 0;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            int value = getDieValue(state, i);
+            if (value == 0) {
+                throw new IllegalStateException("Dice have not been rolled!");
+            }
+            key += HandTable.keyWeight(value);
+        }
+        return HandTable.indexOfKey(key);
+    }
+
+    /**
+     * Returns a state with one die set to a value, such as a die of a known roll outcome.
+     * @param dieIndex Index of die from 0 to 4
+     * @param value Value of the die from 1 to 6
+     */
+    public static long withDieValue(long state, int dieIndex, int value) {
+        int shift = DICE_SHIFT + (dieIndex * BITS_PER_DIE);
+        return (state & ~(DIE_BITS << shift)) | ((long)value << shift);
+    }
+
+    /**
+     * Returns the state after rolling every die that is not held.
+     * @param rng Dice generator used to roll the dice
+     * @throws java.lang.IllegalStateException if no rolls are left in this round or the game is over
+     */
+    public static long roll(long state, DiceRng rng) {
+        if (!canRoll(state)) {
+            throw new IllegalStateException("Cannot roll! Rolls left: " + getRollsLeft(state) + ", rounds left: " + getRoundsLeft(state));
+        }
+        // The dice field is packed the way DiceRng.rollPacked() expects, so it is rolled in place.
+        long dice = rng.rollPacked((state & ALL_DICE_BITS) >>> DICE_SHIFT, getHoldMask(state));
+        state = (state & ~ALL_DICE_BITS) | (dice << DICE_SHIFT);
+        return state + (1L << ROLLS_SHIFT);
+    }
+
+    /**
+     * Returns the state with a new hold mask.
+     * @param holdMask bit i set to hold die i
+     */
+    public static long hold(long state, int holdMask) {
+        return (state & ~(HOLD_BITS << HOLD_SHIFT)) | ((holdMask & HOLD_BITS) << HOLD_SHIFT);
+    }
+
+    /**
+     * Same as Board.holdDie(), returning the new state.
+     */
+    public static long holdDie(long state, int dieIndex, boolean holdDie) {
+        long bit = 1L << (HOLD_SHIFT + dieIndex);
+        return holdDie ? (state | bit) : (state & ~bit);
+    }
+
+    /**
+     * Returns the points the current dice would score in a field, the same value Game.scoreField() writes. Fields the
+     * joker rules forbid score 0.
+     */
+    public static int getFieldScore(long state, int SCORE_FIELD) {
+        return Math.max(0, Rules.getPoints(getFieldMask(state), getHandIndex(state), SCORE_FIELD));
+    }
+
+    /**
+     * Same as Game.canScore().
+     */
+    public static boolean canScore(long state, int SCORE_FIELD) {
+        return hasRolled(state) && Rules.canScore(getFieldMask(state), getHandIndex(state), SCORE_FIELD);
+    }
+
+    /**
+     * Returns the state after scoring the current dice in a field, which starts the next round: holds are released and
+     * the roll count is reset. The dice keep their values until the next roll, as on the Board.
+     * @param SCORE_FIELD ScoreCard.SCORE_FIELD constant of the field to score
+     * @throws java.lang.IllegalStateException if the dice have not been rolled this round, the field is already set or
+     *                                         the joker rules forbid it
+     */
+    public static long score(long state, int SCORE_FIELD) {
+        if (!hasRolled(state)) {
+            throw new IllegalStateException("Dice must be rolled before scoring!");
+        }
+        if (isScoreFieldSet(state, SCORE_FIELD)) {
+            throw new IllegalStateException("Cannot write to field " + SCORE_FIELD + "! Already in use.");
+        }
+        int handIndex = getHandIndex(state);
+        int value = Rules.getPoints(getFieldMask(state), handIndex, SCORE_FIELD);
+        if (value == Rules.NOT_ALLOWED) {
+            throw new IllegalStateException("Cannot write to field " + SCORE_FIELD + "! The joker rules require another field.");
+        }
+        int earned = value;
+        if (Rules.earnsYahtzeeBonus(getYahtzeeCount(state) > 0, handIndex)) {
+            earned += ScoreCard.VALUE_YAHTZEE_BONUS;
+            state += 1L << YAHTZEE_COUNT_SHIFT;
+        }
+        if (((1 << SCORE_FIELD) & Rules.UPPER_FIELD_MASK) != 0) {
+            earned += Rules.getUpperBonus(getUpperSubtotal(state), value);
+            state += (long)value << UPPER_SHIFT;
+        } else if (SCORE_FIELD == ScoreCard.SCORE_FIELD_YAHTZEE && value == ScoreCard.VALUE_YAHTZEE) {
+            state += 1L << YAHTZEE_COUNT_SHIFT;
+        }
+        state |= 1L << (MASK_SHIFT + SCORE_FIELD);
+        state += (long)earned << TOTAL_SHIFT;
+        return state & ~(HOLD_BITS << HOLD_SHIFT) & ~(ROLLS_BITS << ROLLS_SHIFT);
+    }
+
+    /**
+     * Returns the state with only the parts that affect the value of the rest of the game: the ScoreCard at the start
+     * of a round. Dice, holds, rolls and the points already scored are cleared, so equal states share a cache entry.
+     */
+    public static long scoreCardKey(long state) {
+        return state & ~ALL_DICE_BITS & ~(HOLD_BITS << HOLD_SHIFT) & ~(ROLLS_BITS << ROLLS_SHIFT) & ~(TOTAL_BITS << TOTAL_SHIFT);
+    }
+
+    /**
+     * Returns a well distributed 32-bit hash of a state for hash tables. The low bits of a raw state change far more
+     * often than the high ones, so the bits are mixed with the SplitMix64 finalizer first.
+     */
+    public static int hash(long state) {
+        long z = SplitMix64.mix(state);
+        return (int)(z ^ (z >>> 32));
+    }
+
+    public static String toString(long state) {
+        StringBuilder sb = new StringBuilder("GameState[fields=");
+        sb.append(Integer.toBinaryString(getFieldMask(state)));
+        sb.append(", upper=").append(getUpperSubtotal(state));
+        sb.append(", yahtzees=").append(getYahtzeeCount(state));
+        sb.append(", dice=");
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            sb.append(getDieValue(state, i));
+            if (isDieHeld(state, i)) {
+                sb.append('*');
+            }
+            sb.append((i < Board.DICE_COUNT - 1) ? "," : "");
+        }
+        sb.append(", rollsLeft=").append(getRollsLeft(state));
+        sb.append(", total=").append(getTotalScore(state));
+        return sb.append(']').toString();
+    }
+}
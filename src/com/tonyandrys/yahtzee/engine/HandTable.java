@@ -0,0 +1,190 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - HandTable
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Precomputed score lookup for every distinct hand of five dice.
+ *
+ * The order of the dice in a hand never affects its score, so only 252 distinct hands (multisets of five values from
+ * 1-6) exist. Each of them is scored against all 13 ScoreCard categories once when this class is loaded. Scoring a hand
+ * afterwards is an encode step (five additions) and 13 array reads, with no allocation.
+ */
+public final class HandTable {
+
+    // Number of distinct (unordered) hands of five six-sided dice.
+    public static final int HAND_COUNT = 252;
+
+    // A hand key is the sum of 6^(value-1) over every die, which is the base-6 representation of the hand's dice counts.
+    // Dice counts never exceed 5, so every hand maps to a unique key. The largest key is five sixes (5 * 6^5).
+    // KeepTable keys its keeps the same way, through keyWeight() and KEY_COUNT, so the two encodings always agree.
+    private static final int[] KEY_WEIGHTS = {1, 6, 36, 216, 1296, 7776};
+    public static final int KEY_COUNT = (5 * 7776) + 1;
+
+    // Hand key -> hand index. Keys that do not correspond to a hand of five dice are never read.
+    private static final short[] KEY_TO_INDEX = new short[KEY_COUNT];
+
+    // Hand index -> hand key, used to recover dice counts for an index.
+    private static final int[] INDEX_TO_KEY = new int[HAND_COUNT];
+
+    // Flattened [hand index][category] score table. Format of each row matches ScoreManager.handScores.
+    private static final int[] SCORES = new int[HAND_COUNT * ScoreCard.NUMBER_OF_FIELDS];
+
+    static {
+        // Walk every sorted hand (a <= b <= c <= d <= e) and score it. Hands are indexed in this order.
+        int index = 0;
+        int[] counts = new int[6];
+        for (int a=1; a<=6; a++) {
+            for (int b=a; b<=6; b++) {
+                for (int c=b; c<=6; c++) {
+                    for (int d=c; d<=6; d++) {
+                        for (int e=d; e<=6; e++) {
+                            int key = KEY_WEIGHTS[a-1] + KEY_WEIGHTS[b-1] + KEY_WEIGHTS[c-1] + KEY_WEIGHTS[d-1] + KEY_WEIGHTS[e-1];
+                            KEY_TO_INDEX[key] = (short)index;
+                            INDEX_TO_KEY[index] = key;
+
+                            decodeCounts(key, counts);
+                            scoreHand(counts, index * ScoreCard.NUMBER_OF_FIELDS);
+                            index++;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private HandTable() {
+    }
+
+    /**
+     * Returns the hand index [0, HAND_COUNT) of a set of five dice. The order of the dice does not matter.
+     * @param diceValues integer values of the five dice, each from 1 to 6
+     * @return index of this hand in the score table
+     */
+    public static int indexOf(int[] diceValues) {
+        return KEY_TO_INDEX[KEY_WEIGHTS[diceValues[0]-1] + KEY_WEIGHTS[diceValues[1]-1] + KEY_WEIGHTS[diceValues[2]-1]
+                + KEY_WEIGHTS[diceValues[3]-1] + KEY_WEIGHTS[diceValues[4]-1]];
+    }
+
+    /**
+     * Returns the hand index of a hand key. A hand key is the sum of 6^(value-1) over the five dice of the hand.
+     * @param key hand key
+     * @return index of this hand in the score table
+     */
+    public static int indexOfKey(int key) {
+        return KEY_TO_INDEX[key];
+    }
+
+    /**
+     * Returns the amount a single die adds to a hand key, 6^(value-1).
+     * @param value die value from 1 to 6
+     */
+    public static int keyWeight(int value) {
+        return KEY_WEIGHTS[value-1];
+    }
+
+    /**
+     * Returns the hand key of a hand index, which is the sum of 6^(value-1) over the five dice of the hand.
+     * @param handIndex hand index returned by indexOf()
+     * @return hand key
+     */
+    public static int getKey(int handIndex) {
+        return INDEX_TO_KEY[handIndex];
+    }
+
+    /**
+     * Returns the score a hand would earn in a single category, ignoring whether that category is still available.
+     * @param handIndex hand index returned by indexOf()
+     * @param SCORE_FIELD ScoreCard.SCORE_FIELD constant representing the category to score
+     * @return score of the hand in the requested category
+     */
+    public static int getScore(int handIndex, int SCORE_FIELD) {
+        return SCORES[(handIndex * ScoreCard.NUMBER_OF_FIELDS) + SCORE_FIELD];
+    }
+
+    /**
+     * Writes the number of dice showing each value (1-6) in a hand to counts[0-5].
+     * @param handIndex hand index returned by indexOf()
+     * @param counts array of length 6 to receive the dice counts
+     */
+    public static void getCounts(int handIndex, int[] counts) {
+        decodeCounts(INDEX_TO_KEY[handIndex], counts);
+    }
+
+    /**
+     * Splits a hand key back into its six base-6 digits, which are the dice counts of the hand.
+     */
+    private static void decodeCounts(int key, int[] counts) {
+        for (int i=0; i<6; i++) {
+            counts[i] = key % 6;
+            key /= 6;
+        }
+    }
+
+    /**
+     * Scores a hand described by its dice counts in every category and writes the results to SCORES at offset.
+     */
+    private static void scoreHand(int[] counts, int offset) {
+
+        // Upper section: score == (number of dice showing a value) * value. Track the sum and largest group on the way.
+        int diceSum = 0;
+        int maxCount = 0;
+        boolean hasPair = false;
+        boolean hasTriple = false;
+        for (int i=0; i<6; i++) {
+            int upperScore = counts[i] * (i+1);
+            SCORES[offset + ScoreCard.SCORE_FIELD_ONES + i] = upperScore;
+            diceSum += upperScore;
+            if (counts[i] > maxCount) {
+                maxCount = counts[i];
+            }
+            if (counts[i] == ScoreManager.COUNT_PAIR) {
+                hasPair = true;
+            } else if (counts[i] == ScoreManager.COUNT_THREE_OF_A_KIND) {
+                hasTriple = true;
+            }
+        }
+
+        // N of a Kind scores the sum of all dice as long as at least N dice share a value.
+        if (maxCount >= ScoreManager.COUNT_THREE_OF_A_KIND) {
+            SCORES[offset + ScoreCard.SCORE_FIELD_3_OF_A_KIND] = diceSum;
+        }
+        if (maxCount >= ScoreManager.COUNT_FOUR_OF_A_KIND) {
+            SCORES[offset + ScoreCard.SCORE_FIELD_4_OF_A_KIND] = diceSum;
+        }
+
+        // Full House requires exactly a three of a kind and a pair.
+        if (hasTriple && hasPair) {
+            SCORES[offset + ScoreCard.SCORE_FIELD_FULL_HOUSE] = ScoreCard.VALUE_FULL_HOUSE;
+        }
+
+        // Straights: find the longest run of consecutive values present in the hand.
+        int run = 0;
+        int longestRun = 0;
+        for (int i=0; i<6; i++) {
+            run = (counts[i] > 0) ? run + 1 : 0;
+            if (run > longestRun) {
+                longestRun = run;
+            }
+        }
+        if (longestRun >= ScoreManager.RUN_SMALL_STRAIGHT) {
+            SCORES[offset + ScoreCard.SCORE_FIELD_SM_STRAIGHT] = ScoreCard.VALUE_SM_STRAIGHT;
+        }
+        if (longestRun >= ScoreManager.RUN_LARGE_STRAIGHT) {
+            SCORES[offset + ScoreCard.SCORE_FIELD_LG_STRAIGHT] = ScoreCard.VALUE_LG_STRAIGHT;
+        }
+
+        // Yahtzee - all five dice are identical.
+        if (maxCount == ScoreManager.COUNT_YAHTZEE) {
+            SCORES[offset + ScoreCard.SCORE_FIELD_YAHTZEE] = ScoreCard.VALUE_YAHTZEE;
+        }
+
+        // Chance is always the sum of the dice.
+        SCORES[offset + ScoreCard.SCORE_FIELD_CHANCE] = diceSum;
+    }
+}
@@ -0,0 +1,34 @@
+package com.tonyandrys.yahtzee.engine;
+
+import java.util.Random;
+
+/**
+ * com.tonyandrys.yahtzee.engine - JavaDiceRng
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Dice generator that draws from a java.util.Random. Dice are still cut from nextLong() like every DiceRng, so a seeded
+ * Random does not roll the same dice it did when Die called nextInt(6).
+ */
+public class JavaDiceRng extends DiceRng {
+
+    private final Random r;
+
+    public JavaDiceRng(Random r) {
+        this.r = r;
+    }
+
+    @Override
+    public long nextLong() {
+        return r.nextLong();
+    }
+
+    @Override
+    public byte getAlgorithm() {
+        return ALGORITHM_JAVA;
+    }
+}
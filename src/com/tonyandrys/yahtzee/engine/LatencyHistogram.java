@@ -0,0 +1,157 @@
+package com.tonyandrys.yahtzee.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * com.tonyandrys.yahtzee.engine - LatencyHistogram
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Lock-free histogram of latencies in nanoseconds, laid out like an HdrHistogram. Values below 2 * SUB_BUCKET_COUNT
+ * get a bucket each. Above that, each power of two is split into SUB_BUCKET_COUNT equal buckets, so a bucket is never
+ * wider than 1/32 of its values (about 3%) whatever the magnitude. Values past MAX_TRACKABLE_NANOS land in the last
+ * bucket, but the maximum is always exact.
+ *
+ * Recording is two or three atomic updates and allocates nothing, so any thread may record at any time. Reads scan
+ * the buckets without stopping writers, so a value recorded during a read may or may not be counted.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    // Largest value told apart from bigger ones, about 68 seconds
+    public static final long MAX_TRACKABLE_NANOS = (1L << 36) - 1;
+
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one latency. Negative values, which a clock can not produce, are counted as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(Math.min(value, MAX_TRACKABLE_NANOS)));
+        total.addAndGet(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Returns the number of values recorded.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i=0; i<BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long count = getCount();
+        return (count == 0) ? 0 : (double)total.get() / count;
+    }
+
+    /**
+     * Returns the value at a percentile: the highest value of the bucket holding that fraction of the recorded values,
+     * or the exact maximum if it is lower. Returns 0 if nothing is recorded.
+     * @param percentile percentile from 0 to 100
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = copyCounts(snapshot);
+        return valueAtPercentile(snapshot, count, percentile);
+    }
+
+    /**
+     * Clears every bucket. Values recorded while it runs may be partly kept.
+     */
+    public void reset() {
+        for (int i=0; i<BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        total.set(0);
+        max.set(0);
+    }
+
+    /**
+     * Returns the count, p50, p90, p99 and maximum in microseconds, read from a single pass over the buckets.
+     */
+    @Override
+    public String toString() {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = copyCounts(snapshot);
+        return "n " + count
+                + ", p50 " + toMicros(valueAtPercentile(snapshot, count, 50))
+                + ", p90 " + toMicros(valueAtPercentile(snapshot, count, 90))
+                + ", p99 " + toMicros(valueAtPercentile(snapshot, count, 99))
+                + ", max " + toMicros(max.get()) + " us";
+    }
+
+    private long copyCounts(long[] snapshot) {
+        long count = 0;
+        for (int i=0; i<BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        return count;
+    }
+
+    private long valueAtPercentile(long[] snapshot, long count, double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        // Rank of the value, from 1 to count
+        long rank = Math.max(1, (long)Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+        long seen = 0;
+        for (int i=0; i<BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValue(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Returns the bucket of a value from 0 to MAX_TRACKABLE_NANOS.
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int)value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int)((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * Returns the highest value that falls in a bucket.
+     */
+    static long highestValue(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long)((index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    private static String toMicros(long nanos) {
+        return String.format("%.1f", nanos / 1000.0);
+    }
+}
@@ -0,0 +1,126 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - LatencyRecorder
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * A LatencyHistogram for each phase of a roll and of a score, from the tap to the first frame that shows its result.
+ * Phases are timed back to back with System.nanoTime(): record() returns the time it read, which is the start of the
+ * next phase, so timing a phase costs one clock read.
+ *
+ * Roll, after a tap on the roll button:
+ *   ROLL_RNG             Board.rollDice(), timed by Game
+ *   ROLL_CALCULATE_HAND  ScoreManager.calculateHand(), timed by Game
+ *   ROLL_FRAME           copying the GameFrame and queueing its save, on the game thread
+ *   ROLL_DELIVER         tap until the frame reaches the UI thread, including the time queued on both threads
+ *   ROLL_DICE_FACES      updateDiceFaces()
+ *   ROLL_HAND_SCORES     ScorePadBinder.applyHandScores() and the refreshView() of each field
+ *   ROLL_TO_FIRST_FRAME  tap until the first frame with the new dice is drawn
+ *
+ * Score, after a tap on a score field:
+ *   SCORE_FIELD          Game.scoreField(), timed by Game
+ *   SCORE_SAVE           copying the GameFrame, queueing its save, committing the journal and finishing the game
+ *   SCORE_DELIVER        tap until the frame reaches the UI thread
+ *   SCORE_COMMIT         ScorePadBinder.commitScore()
+ *   SCORE_NEW_ROUND      newRound() redrawing the locks, totals and roll count
+ *   SCORE_TO_FIRST_FRAME tap until the first frame with the score is drawn
+ *
+ * Every histogram is lock-free, so the game thread, the UI thread and a dump may all use a recorder at once.
+ */
+public final class LatencyRecorder {
+
+    private static final String TAG = LatencyRecorder.class.getSimpleName();
+
+    // Phases of a roll
+    public static final int ROLL_RNG = 0;
+    public static final int ROLL_CALCULATE_HAND = 1;
+    public static final int ROLL_FRAME = 2;
+    public static final int ROLL_DELIVER = 3;
+    public static final int ROLL_DICE_FACES = 4;
+    public static final int ROLL_HAND_SCORES = 5;
+    public static final int ROLL_TO_FIRST_FRAME = 6;
+
+    // Phases of a score
+    public static final int SCORE_FIELD = 7;
+    public static final int SCORE_SAVE = 8;
+    public static final int SCORE_DELIVER = 9;
+    public static final int SCORE_COMMIT = 10;
+    public static final int SCORE_NEW_ROUND = 11;
+    public static final int SCORE_TO_FIRST_FRAME = 12;
+
+    public static final int PHASE_COUNT = 13;
+
+    private static final String[] PHASE_NAMES = {
+            "roll.rng", "roll.calculateHand", "roll.frame", "roll.deliver", "roll.diceFaces", "roll.handScores",
+            "roll.toFirstFrame", "score.field", "score.save", "score.deliver", "score.commit", "score.newRound",
+            "score.toFirstFrame"};
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASE_COUNT];
+
+    public LatencyRecorder() {
+        for (int i=0; i<PHASE_COUNT; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Records a phase that started at startNanos and ends now.
+     * @param startNanos System.nanoTime() when the phase started
+     * @return System.nanoTime() when the phase ended, the start of the next phase
+     */
+    public long record(int phase, long startNanos) {
+        long now = System.nanoTime();
+        histograms[phase].record(now - startNanos);
+        return now;
+    }
+
+    public LatencyHistogram getHistogram(int phase) {
+        return histograms[phase];
+    }
+
+    public static String getPhaseName(int phase) {
+        return PHASE_NAMES[phase];
+    }
+
+    /**
+     * Clears every phase, such as after warming up.
+     */
+    public void reset() {
+        for (int i=0; i<PHASE_COUNT; i++) {
+            histograms[i].reset();
+        }
+    }
+
+    /**
+     * Writes the percentiles of every phase that has been recorded to the debug log.
+     */
+    public void dump() {
+        if (!GameLog.isLoggable(GameLog.DEBUG, TAG)) {
+            return;
+        }
+        for (int i=0; i<PHASE_COUNT; i++) {
+            if (histograms[i].getCount() > 0) {
+                GameLog.log(GameLog.DEBUG, TAG, PHASE_NAMES[i] + ": " + histograms[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the percentiles of every phase that has been recorded, one line per phase.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i=0; i<PHASE_COUNT; i++) {
+            if (histograms[i].getCount() > 0) {
+                sb.append(PHASE_NAMES[i]).append(": ").append(histograms[i]).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,165 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - MultiplayerGame
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * A game of Yahtzee for several players sharing one Board. Players take turns in order: each turn allows up to 3 rolls
+ * and ends when the player scores a field, and a round is over once every player has taken a turn. The game ends after
+ * 13 rounds, when every player's scorecard is full.
+ *
+ * All scorecards live in one ScoreTable. Only the hand scores of the player whose turn it is are calculated, into a
+ * single reused array, so starting the next player's turn costs nothing beyond releasing the dice.
+ */
+public class MultiplayerGame {
+
+    private final Board board;
+    private final ScoreTable scoreTable;
+    private int currentPlayer;
+    private int rollCount;
+    private int roundCount;
+    private int handIndex;
+
+    // Reused buffers for the dice values of the current hand and the current player's scores for it
+    private final int[] diceValues;
+    private final int[] handScores;
+
+    /**
+     * @param names name of each player, in turn order
+     * @param rng Dice generator every player rolls with
+     * @throws java.lang.IllegalArgumentException if the number of players is outside ScoreTable.MIN_PLAYERS to MAX_PLAYERS
+     */
+    public MultiplayerGame(String[] names, DiceRng rng) {
+        scoreTable = new ScoreTable(names);
+        board = new Board(rng);
+        diceValues = new int[Board.DICE_COUNT];
+        handScores = new int[ScoreCard.NUMBER_OF_FIELDS];
+        currentPlayer = 0;
+        rollCount = Game.ROLLS_PER_ROUND;
+        roundCount = Game.ROUNDS_PER_GAME;
+    }
+
+    /**
+     * Rolls all unheld dice and calculates the current player's possible scores for the new hand.
+     * @throws java.lang.IllegalStateException if no rolls are left in this turn or the game is over
+     */
+    public void rollDice() {
+        if (!canRoll()) {
+            throw new IllegalStateException("Cannot roll! Rolls left: " + rollCount + ", rounds left: " + roundCount);
+        }
+        board.rollDice();
+        board.getDiceValues(diceValues);
+        handIndex = HandTable.indexOf(diceValues);
+        scoreTable.calculateHand(currentPlayer, handIndex, handScores);
+        rollCount--;
+    }
+
+    /**
+     * Sets the hold status of a die on the board.
+     * @param dieIndex Index of die from 0 to 4.
+     * @param holdDie True to hold this die, false to release it.
+     */
+    public void holdDie(int dieIndex, boolean holdDie) {
+        board.holdDie(dieIndex, holdDie);
+    }
+
+    /**
+     * Writes the current hand's score for a field to the current player's scorecard and passes the turn to the next
+     * player.
+     * @param SCORE_FIELD ScoreCard.SCORE_FIELD constant of the field to score
+     * @return value written to the field, without bonuses
+     * @throws java.lang.IllegalStateException if the dice have not been rolled this turn, the field is already set or
+     *                                         the joker rules forbid it
+     */
+    public int scoreField(int SCORE_FIELD) {
+        if (!hasRolled()) {
+            throw new IllegalStateException("Dice must be rolled before scoring!");
+        }
+        int value = scoreTable.scoreHand(currentPlayer, handIndex, SCORE_FIELD);
+        nextTurn();
+        return value;
+    }
+
+    /**
+     * Checks if the current player can score the current hand in a field.
+     * @return true if the dice have been rolled this turn, the field is open and the joker rules allow it
+     */
+    public boolean canScore(int SCORE_FIELD) {
+        return hasRolled() && scoreTable.canScore(currentPlayer, handIndex, SCORE_FIELD);
+    }
+
+    /**
+     * Passes the turn to the next player, releasing every die and resetting the roll count back to 3. A round ends
+     * when the turn comes back to the first player.
+     */
+    private void nextTurn() {
+        rollCount = Game.ROLLS_PER_ROUND;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            board.holdDie(i, false);
+        }
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            handScores[i] = 0;
+        }
+        currentPlayer++;
+        if (currentPlayer == scoreTable.getPlayerCount()) {
+            currentPlayer = 0;
+            roundCount--;
+        }
+    }
+
+    /**
+     * Checks if the dice can be rolled again this turn.
+     * @return true if rolls are left and the game is not over
+     */
+    public boolean canRoll() {
+        return (rollCount > 0) && !isGameOver();
+    }
+
+    /**
+     * Checks if the dice have been rolled at least once this turn, which is required before scoring.
+     * @return true if the current hand can be scored
+     */
+    public boolean hasRolled() {
+        return (rollCount < Game.ROLLS_PER_ROUND) && !isGameOver();
+    }
+
+    public boolean isGameOver() {
+        return roundCount == 0;
+    }
+
+    /**
+     * Returns the index of the player whose turn it is, in turn order.
+     */
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    public int getRollsLeft() {
+        return rollCount;
+    }
+
+    public int getRoundsLeft() {
+        return roundCount;
+    }
+
+    /**
+     * Returns the current player's scores for the current hand, zero for fields they have used. The returned array is
+     * reused between calls.
+     */
+    public int[] getHandScores() {
+        return handScores;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public ScoreTable getScoreTable() {
+        return scoreTable;
+    }
+}
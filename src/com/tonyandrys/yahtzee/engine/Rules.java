@@ -0,0 +1,120 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - Rules
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * The scoring rules of Yahtzee, shared by ScoreCard, Game, GameState, ScoreTable and the solver so that every one of
+ * them scores a hand the same way. Rules only reads a scorecard's used-field mask and HandTable, so each call is O(1).
+ *
+ * Beyond the points in HandTable:
+ *   - Upper section bonus: VALUE_UPPER_HALF_BONUS once the upper subtotal reaches BONUS_THRESHOLD.
+ *   - Yahtzee bonus: every Yahtzee rolled after the Yahtzee field holds 50 points earns VALUE_YAHTZEE_BONUS, wherever
+ *     it is scored. No bonus is earned if the Yahtzee field holds a zero.
+ *   - Forced joker: once the Yahtzee field is used, a Yahtzee must be scored in the matching upper field if it is open.
+ *     Otherwise it may be scored in any open lower field, and full house and the straights then score their full
+ *     values. Only if every lower field is used may it be scored, as a zero, in an open upper field.
+ */
+public final class Rules {
+
+    public static final int UPPER_FIELD_MASK = (1 << (ScoreCard.SCORE_FIELD_SIXES + 1)) - 1;
+
+    // Fields of the lower section, excluding the Yahtzee field itself
+    public static final int LOWER_JOKER_MASK = ((1 << ScoreCard.NUMBER_OF_FIELDS) - 1) & ~UPPER_FIELD_MASK & ~(1 << ScoreCard.SCORE_FIELD_YAHTZEE);
+
+    // Returned by getPoints() for a field the joker rules do not allow
+    public static final int NOT_ALLOWED = -1;
+
+    private Rules() {
+    }
+
+    public static boolean isYahtzee(int handIndex) {
+        return HandTable.getScore(handIndex, ScoreCard.SCORE_FIELD_YAHTZEE) == ScoreCard.VALUE_YAHTZEE;
+    }
+
+    /**
+     * Returns the points a hand scores in an open field, before bonuses.
+     * @param fieldMask bit i set if ScoreCard field i has been used
+     * @param handIndex hand index returned by HandTable.indexOf()
+     * @param SCORE_FIELD ScoreCard.SCORE_FIELD constant of an open field
+     * @return points scored, or NOT_ALLOWED if the joker rules forbid the field
+     */
+    public static int getPoints(int fieldMask, int handIndex, int SCORE_FIELD) {
+        if (!isYahtzee(handIndex) || (fieldMask & (1 << ScoreCard.SCORE_FIELD_YAHTZEE)) == 0) {
+            return HandTable.getScore(handIndex, SCORE_FIELD);
+        }
+
+        // Joker: the Yahtzee field is used, so the matching upper field comes first, then the lower section.
+        int upperField = (HandTable.getScore(handIndex, ScoreCard.SCORE_FIELD_CHANCE) / Board.DICE_COUNT) - 1;
+        if ((fieldMask & (1 << upperField)) == 0) {
+            return (SCORE_FIELD == upperField) ? HandTable.getScore(handIndex, SCORE_FIELD) : NOT_ALLOWED;
+        }
+        if ((fieldMask & LOWER_JOKER_MASK) != LOWER_JOKER_MASK) {
+            if (((1 << SCORE_FIELD) & UPPER_FIELD_MASK) != 0) {
+                return NOT_ALLOWED;
+            }
+            switch (SCORE_FIELD) {
+                case ScoreCard.SCORE_FIELD_FULL_HOUSE:
+                    return ScoreCard.VALUE_FULL_HOUSE;
+                case ScoreCard.SCORE_FIELD_SM_STRAIGHT:
+                    return ScoreCard.VALUE_SM_STRAIGHT;
+                case ScoreCard.SCORE_FIELD_LG_STRAIGHT:
+                    return ScoreCard.VALUE_LG_STRAIGHT;
+                default:
+                    return HandTable.getScore(handIndex, SCORE_FIELD);
+            }
+        }
+        // Every lower field is used, so the Yahtzee is scored as a zero in any open upper field.
+        return HandTable.getScore(handIndex, SCORE_FIELD);
+    }
+
+    /**
+     * Checks if a hand may be scored in a field.
+     * @return true if the field is open and the joker rules allow it
+     */
+    public static boolean canScore(int fieldMask, int handIndex, int SCORE_FIELD) {
+        return (fieldMask & (1 << SCORE_FIELD)) == 0 && getPoints(fieldMask, handIndex, SCORE_FIELD) != NOT_ALLOWED;
+    }
+
+    /**
+     * Writes the points a hand scores in every field to handScores. Used fields, and fields the joker rules forbid, are
+     * left at zero.
+     * @param handScores int[13] to receive the scores in ScoreCard.SCORE_FIELD order
+     */
+    public static void calculateHand(int fieldMask, int handIndex, int[] handScores) {
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            handScores[i] = ((fieldMask & (1 << i)) != 0) ? 0 : Math.max(0, getPoints(fieldMask, handIndex, i));
+        }
+    }
+
+    /**
+     * Checks if scoring a hand earns a Yahtzee bonus.
+     * @param yahtzeeScored true if the Yahtzee field holds 50 points
+     */
+    public static boolean earnsYahtzeeBonus(boolean yahtzeeScored, int handIndex) {
+        return yahtzeeScored && isYahtzee(handIndex);
+    }
+
+    /**
+     * Returns the upper section bonus earned by adding points to the upper subtotal: VALUE_UPPER_HALF_BONUS if the
+     * subtotal reaches BONUS_THRESHOLD with these points, otherwise 0.
+     */
+    public static int getUpperBonus(int upperSubtotal, int points) {
+        boolean crossed = upperSubtotal < ScoreCard.BONUS_THRESHOLD && upperSubtotal + points >= ScoreCard.BONUS_THRESHOLD;
+        return crossed ? ScoreCard.VALUE_UPPER_HALF_BONUS : 0;
+    }
+
+    /**
+     * Returns the Yahtzee bonus points of a scorecard. The first Yahtzee is the 50 in the Yahtzee field, and every
+     * later one earns VALUE_YAHTZEE_BONUS.
+     * @param yahtzeeCount Yahtzees scored so far, counting the one in the Yahtzee field
+     */
+    public static int getYahtzeeBonusValue(int yahtzeeCount) {
+        return (yahtzeeCount < 2) ? 0 : (yahtzeeCount - 1) * ScoreCard.VALUE_YAHTZEE_BONUS;
+    }
+}
@@ -0,0 +1,264 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine -
+ *
+ * @author Tony Andrys
+ *         Created: 11/29/2013
+ *         (C) 2013 - Tony Andrys
+ */
+
+// ScoreCard refactor for efficiency
+
+/**
+ * A player's scorecard, held as plain primitives: the 13 field scores in one int array, a bit mask of the used fields,
+ * and the upper subtotal, lower total and Yahtzee count, which are updated as each score is written. Every total below
+ * is read in O(1) without rescanning the fields, checking a field is a bit test, and a copy is one array copy.
+ *
+ * Points follow Rules. Displaying the card is left to the UI layer (ScorePadBinder).
+ */
+public class ScoreCard {
+
+    // Number of possible fields on this ScoreCard
+    public static final int NUMBER_OF_FIELDS = 13;
+
+    // SCORE_FIELD Constants
+    public static final int SCORE_FIELD_ONES = 0;
+    public static final int SCORE_FIELD_TWOS = 1;
+    public static final int SCORE_FIELD_THREES = 2;
+    public static final int SCORE_FIELD_FOURS = 3;
+    public static final int SCORE_FIELD_FIVES = 4;
+    public static final int SCORE_FIELD_SIXES = 5;
+    public static final int SCORE_FIELD_3_OF_A_KIND = 6;
+    public static final int SCORE_FIELD_4_OF_A_KIND = 7;
+    public static final int SCORE_FIELD_FULL_HOUSE = 8;
+    public static final int SCORE_FIELD_SM_STRAIGHT = 9;
+    public static final int SCORE_FIELD_LG_STRAIGHT = 10;
+    public static final int SCORE_FIELD_YAHTZEE = 11;
+    public static final int SCORE_FIELD_CHANCE = 12;
+
+    final public static int ZEROED_VALUE = -1;
+    final public static int AVAILABLE_SCORE = 0;
+
+    /* If the sum of all top half values >= BONUS_THRESHOLD, add VALUE_TOP_HALF_BONUS to the player's score. */
+    final public static int BONUS_THRESHOLD = 63;
+
+    // Scores that remain constant regardless of the value on the dice
+    final static public int VALUE_FULL_HOUSE = 25;
+    final static public int VALUE_UPPER_HALF_BONUS = 35;
+    final static public int VALUE_YAHTZEE = 50;
+    final static public int VALUE_YAHTZEE_BONUS = 100;
+    final static public int VALUE_SM_STRAIGHT = 30;
+    final static public int VALUE_LG_STRAIGHT = 40;
+
+    // Mask of the upper section fields, ones to sixes
+    private static final int UPPER_SECTION_MASK = (1 << (SCORE_FIELD_SIXES + 1)) - 1;
+
+    /*
+    *  A player's scores are stored as an int Array of length 13- the number of user editable fields on the scorecard. Format:
+    *  [ones, twos, threes, fours, fives, sixes, 3/Kind, 4/Kind, Full House, Sm. Str, Lg. Str, Yahtzee, Chance]
+    *  Bit i of usedMask is set once field i has been scored.
+    */
+    private final int[] scores;
+    private int usedMask;
+    private int upperSubtotal;
+    private int lowerTotal;
+
+    // Yahtzees scored so far: the 50 in the Yahtzee field, then every bonus Yahtzee
+    private int yahtzeeCount;
+
+    private String playerName;
+
+
+    public ScoreCard() {
+        // Each player starts with 13 open fields, zero points and no yahtzees at the beginning of the game.
+        scores = new int[NUMBER_OF_FIELDS];
+        usedMask = 0;
+        upperSubtotal = 0;
+        lowerTotal = 0;
+        yahtzeeCount = 0;
+
+        // Set player name to default value for now
+        playerName = "NAME";
+    }
+
+    /**
+     * Creates a copy of another ScoreCard.
+     */
+    public ScoreCard(ScoreCard other) {
+        scores = new int[NUMBER_OF_FIELDS];
+        copyFrom(other);
+    }
+
+    /**
+     * Overwrites this ScoreCard with the scores, totals and player name of another one.
+     */
+    public void copyFrom(ScoreCard other) {
+        System.arraycopy(other.scores, 0, scores, 0, NUMBER_OF_FIELDS);
+        usedMask = other.usedMask;
+        upperSubtotal = other.upperSubtotal;
+        lowerTotal = other.lowerTotal;
+        yahtzeeCount = other.yahtzeeCount;
+        playerName = other.playerName;
+    }
+
+    /**
+     * Returns a score from the a field of the ScoreCard.
+     * @param SCORE_FIELD ScoreCard.SCORE_FIELD constant representing the field to return
+     * @return returns value of desired score field as an integer
+     */
+    public int getPlayerScore(int SCORE_FIELD) {
+        return scores[SCORE_FIELD];
+    }
+
+    /**
+     * Sets the value of a ScoreCard field to an arbitrary value. Scoring 50 in the Yahtzee field counts the first Yahtzee.
+     * Bonus Yahtzees are not scored in a field; they are counted with addYahtzeeBonus().
+     * @param SCORE_FIELD ScoreCard.SCORE_FIELD constant representing to field to return
+     * @param value New integer value for field
+     */
+    public void setPlayerScore(int SCORE_FIELD, int value) {
+        boolean wasYahtzee = (SCORE_FIELD == SCORE_FIELD_YAHTZEE) && isScoreFieldSet(SCORE_FIELD) && (scores[SCORE_FIELD] == VALUE_YAHTZEE);
+
+        // Overwriting a used field replaces its old value in the section total.
+        int delta = value - scores[SCORE_FIELD];
+        if (((1 << SCORE_FIELD) & UPPER_SECTION_MASK) != 0) {
+            upperSubtotal += delta;
+        } else {
+            lowerTotal += delta;
+        }
+        scores[SCORE_FIELD] = value;
+        usedMask |= (1 << SCORE_FIELD);
+
+        // A yahtzee worth 50 points in the Yahtzee field makes later yahtzees earn a bonus. Only a change to or from 50
+        // changes the count, so overwriting the field never counts its Yahtzee twice.
+        if (SCORE_FIELD == SCORE_FIELD_YAHTZEE) {
+            boolean isYahtzee = (value == VALUE_YAHTZEE);
+            if (isYahtzee && !wasYahtzee) {
+                incrementYahtzeeCount();
+            } else if (!isYahtzee && wasYahtzee && yahtzeeCount > 0) {
+                yahtzeeCount--;
+            }
+        }
+    }
+
+    /**
+     * Counts a bonus Yahtzee, which adds VALUE_YAHTZEE_BONUS to the lower total.
+     * @throws java.lang.IllegalStateException if the Yahtzee field does not hold 50 points
+     */
+    public void addYahtzeeBonus() {
+        if (yahtzeeCount == 0) {
+            throw new IllegalStateException("A bonus Yahtzee needs 50 points in the Yahtzee field!");
+        }
+        incrementYahtzeeCount();
+    }
+
+    /**
+     * Checks for the availability of a field.
+     * @param SCORE_FIELD ScoreCard.SCORE_FIELD constant
+     * @return true if the field has a set value, false if it is still available
+     */
+    public boolean isScoreFieldSet(int SCORE_FIELD) {
+        return (usedMask & (1 << SCORE_FIELD)) != 0;
+    }
+
+    /**
+     * Returns the bit mask of the used fields, bit i set once ScoreCard field i is scored.
+     */
+    public int getUsedMask() {
+        return usedMask;
+    }
+
+    /**
+     * Returns the sum of the upper section fields, without the bonus.
+     */
+    public int getUpperSubtotal() {
+        return upperSubtotal;
+    }
+
+    /**
+     * Returns the upper section bonus, VALUE_UPPER_HALF_BONUS once the upper subtotal reaches BONUS_THRESHOLD.
+     */
+    public int getUpperBonus() {
+        return isBonusApplied() ? VALUE_UPPER_HALF_BONUS : 0;
+    }
+
+    /**
+     * Returns the upper section total: the upper subtotal plus the upper section bonus.
+     */
+    public int getUpperTotal() {
+        return upperSubtotal + getUpperBonus();
+    }
+
+    /**
+     * Returns the lower section total: the lower section fields plus the Yahtzee bonus.
+     */
+    public int getLowerTotal() {
+        return lowerTotal + getYahtzeeBonusValue();
+    }
+
+    /**
+     * Returns the player's current score, which is the sum of the upper and lower total scores.
+     * @return grand total, including every bonus
+     */
+    public int getTotalScore() {
+        return getUpperTotal() + getLowerTotal();
+    }
+
+    /**
+     * Gets the status of the upper section bonus.
+     * @return true if the upper subtotal has reached BONUS_THRESHOLD, false if it has not.
+     */
+    public boolean isBonusApplied() {
+        return upperSubtotal >= BONUS_THRESHOLD;
+    }
+
+    /**
+     * Checks if the Yahtzee field holds 50 points, which makes every later yahtzee earn a bonus.
+     */
+    public boolean isYahtzeeApplied() {
+        return yahtzeeCount > 0;
+    }
+
+    /**
+     * Increases the player's yahtzee count by 1.
+     */
+    public void incrementYahtzeeCount() {
+        yahtzeeCount += 1;
+    }
+
+    /**
+     * Sets the player's yahtzee count, used to restore a saved game.
+     */
+    public void setYahtzeeCount(int yahtzeeCount) {
+        this.yahtzeeCount = yahtzeeCount;
+    }
+
+    /**
+     * Returns the number of yahtzees scored so far, counting the 50 in the Yahtzee field and every bonus yahtzee.
+     */
+    public int getYahtzeeCount() {
+        return yahtzeeCount;
+    }
+
+    /**
+     * Calculates the value of the yahtzee bonus scorefield by considering how many yahtzees have been rolled so far in the game.
+     * Yahtzee Bonus Calculation: VALUE_YAHTZEE_BONUS * (n - 1), where n = #ofYahtzees, since the first one is the 50 in the
+     * Yahtzee field.
+     * @return Value of Bonus Yahtzee scorefield on scorepad
+     */
+    public int getYahtzeeBonusValue() {
+        return Rules.getYahtzeeBonusValue(yahtzeeCount);
+    }
+
+    public String getPlayerName() {
+
+        return this.playerName;
+    }
+
+    public void setPlayerName(String playerName) {
+        this.playerName = playerName;
+    }
+
+
+}
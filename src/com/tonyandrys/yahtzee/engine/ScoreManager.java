@@ -0,0 +1,141 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine -
+ *
+ * @author Tony Andrys
+ *         Created: 11/24/2013
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Handles score calculation and recording into a ScoreCard object
+ */
+public class ScoreManager {
+
+    // Dice counts necessary to score certain combinations
+    final static public int COUNT_THREE_OF_A_KIND = 3;
+    final static public int COUNT_FOUR_OF_A_KIND = 4;
+    final static public int COUNT_YAHTZEE = 5;
+    final static public int COUNT_PAIR = 2;
+
+    // Length of the run of consecutive dice values necessary to score straights
+    final static public int RUN_SMALL_STRAIGHT = 4;
+    final static public int RUN_LARGE_STRAIGHT = 5;
+
+    private ScoreCard playerScoreCard;
+
+    // Each score field's possible value based off of the values of the dice rolled (hand values) are calculated and stored in this array
+    // Format: [ones, twos, threes, fours, fives, sixes, 3/Kind, 4/Kind, Full House, Sm. Str, Lg. Str, Yahtzee, Chance]
+    int[] handScores;
+
+    // HandTable index of the hand handScores were calculated for
+    int handIndex;
+
+    /**
+     * On construction, generate a blank ScoreCard for the player.
+     */
+    public ScoreManager() {
+        playerScoreCard = new ScoreCard();
+
+        // Create a blank integer array to store calculated hand values
+        handScores = new int[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+    }
+
+    /**
+     * Helper Method to allow GameActivity to access player's total score
+     * @return player's total score as an integer
+     */
+    public int getPlayerScore() {
+        return playerScoreCard.getTotalScore();
+    }
+
+    /**
+     * Given a set of dice values, this method looks up the possible scores of the hand for every category in HandTable.
+     * Categories that have already been used by the player, or that the joker rules forbid, are left at zero.
+     * @param diceValues integer values of dice
+     */
+    public void calculateHand(int[] diceValues) {
+
+        // Encode the hand once, then read each category's score from the precomputed table.
+        handIndex = HandTable.indexOf(diceValues);
+        Rules.calculateHand(playerScoreCard.getUsedMask(), handIndex, handScores);
+    }
+
+    /**
+     * Returns the HandTable index of the hand last passed to calculateHand().
+     */
+    public int getHandIndex() {
+        return handIndex;
+    }
+
+    /**
+     * Checks if the hand last passed to calculateHand() may be scored in a field.
+     * @return true if the field is open and the joker rules allow it
+     */
+    public boolean canScore(int SCORE_FIELD) {
+        return Rules.canScore(playerScoreCard.getUsedMask(), handIndex, SCORE_FIELD);
+    }
+
+    /**
+     * Returns the scores calculated for the current hand by calculateHand(). The returned array is reused between calls.
+     * @return int[] of hand scores in ScoreCard.SCORE_FIELD order
+     */
+    public int[] getHandScores() {
+        return handScores;
+    }
+
+    /**
+     * Returns the player's ScoreCard.
+     * @return ScoreCard being written to by this ScoreManager
+     */
+    public ScoreCard getScoreCard() {
+        return playerScoreCard;
+    }
+
+    /**
+     * Checks if a specific field has a set value, or if it is still available to be used
+     * @param scorefieldKey ScoreCard.SCORE_FIELD identifer to determine which field to check
+     * @return true if field is set, false if field is still available.
+     */
+    public boolean isScoreFieldSet(int scorefieldKey) {
+        return playerScoreCard.isScoreFieldSet(scorefieldKey);
+    }
+
+    /**
+     * Checks the state of the bonus flag on the player's scorecard and returns its state.
+     * @return true if bonus has been applied, false if it has not yet been applied.
+     */
+    public boolean isBonusApplied() {
+        return playerScoreCard.isBonusApplied();
+    }
+
+    /**
+     * Clears any information in the hand scores array to be ready for the next calculation.
+     */
+    public void clearHandScores() {
+        for (int i=0; i<handScores.length; i++) {
+            handScores[i] = 0;
+        }
+    }
+
+    /**
+     * Retrieves the player's total score from their ScorePad.
+     * This method is primarily used as an interface between GameActivity and the player's ScoreCard object.
+     * @return Player's current total score (upper section + lower section + bonuses)
+     */
+    public int getTotalScore() {
+        return playerScoreCard.getTotalScore();
+    }
+
+    /**
+     * Sets the value of an arbitrary field on the scorepad to the passed value.
+     * This method is primarily used as an interface between GameActivity and the player's ScoreCard object.
+     * @param SCORE_FIELD ScoreCard.SCORE_FIELD key, representing one of the 13 user-writable sections of the scorepad
+     * @param value Value to write to scorefield
+     */
+    public void writeScore(int SCORE_FIELD, int value) {
+        playerScoreCard.setPlayerScore(SCORE_FIELD, value);
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - ScoreTable
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * The scorecards of every player in a MultiplayerGame, stored as parallel arrays indexed by player rather than one
+ * ScoreCard object per player. Each player's field scores are an int[13], which fields are used is a
+ * bit mask, and the upper subtotal, lower total and Yahtzee count are kept up to date as scores are written, so every
+ * total is read in O(1).
+ *
+ * Scores follow Rules, the same as ScoreCard: the upper section bonus is added once the upper subtotal reaches
+ * ScoreCard.BONUS_THRESHOLD, scoring 50 in the Yahtzee field counts a Yahtzee, every later Yahtzee earns a Yahtzee
+ * bonus, and the forced joker rules decide where a Yahtzee may be scored.
+ */
+public class ScoreTable {
+
+    public static final int MIN_PLAYERS = 1;
+    public static final int MAX_PLAYERS = 8;
+
+    // Mask of a scorecard with every field used
+    private static final int ALL_FIELDS = (1 << ScoreCard.NUMBER_OF_FIELDS) - 1;
+
+    private final String[] names;
+
+    // [player][SCORE_FIELD]
+    private final int[][] scores;
+    private final int[] usedMask;
+    private final int[] upperSubtotal;
+    private final int[] lowerTotal;
+    // Yahtzees scored by each player: the 50 in the Yahtzee field, then every bonus Yahtzee
+    private final int[] yahtzeeCount;
+
+    /**
+     * @param names name of each player, in turn order
+     * @throws java.lang.IllegalArgumentException if there are fewer than MIN_PLAYERS or more than MAX_PLAYERS players
+     */
+    public ScoreTable(String[] names) {
+        if (names.length < MIN_PLAYERS || names.length > MAX_PLAYERS) {
+            throw new IllegalArgumentException("A game needs " + MIN_PLAYERS + " to " + MAX_PLAYERS + " players, not " + names.length);
+        }
+        int players = names.length;
+        this.names = names.clone();
+        this.scores = new int[players][ScoreCard.NUMBER_OF_FIELDS];
+        this.usedMask = new int[players];
+        this.upperSubtotal = new int[players];
+        this.lowerTotal = new int[players];
+        this.yahtzeeCount = new int[players];
+    }
+
+    public int getPlayerCount() {
+        return names.length;
+    }
+
+    public String getPlayerName(int player) {
+        return names[player];
+    }
+
+    public boolean isScoreFieldSet(int player, int SCORE_FIELD) {
+        return (usedMask[player] & (1 << SCORE_FIELD)) != 0;
+    }
+
+    /**
+     * Returns the score a player wrote to a field, or 0 if the field is still available.
+     */
+    public int getScore(int player, int SCORE_FIELD) {
+        return scores[player][SCORE_FIELD];
+    }
+
+    /**
+     * Writes a score to one of a player's available fields and updates that player's totals.
+     * @throws java.lang.IllegalStateException if the field is already used
+     */
+    public void setScore(int player, int SCORE_FIELD, int value) {
+        if (isScoreFieldSet(player, SCORE_FIELD)) {
+            throw new IllegalStateException("Cannot write to field " + SCORE_FIELD + " of player " + player + "! Already in use.");
+        }
+        scores[player][SCORE_FIELD] = value;
+        usedMask[player] |= (1 << SCORE_FIELD);
+        if (SCORE_FIELD <= ScoreCard.SCORE_FIELD_SIXES) {
+            upperSubtotal[player] += value;
+        } else {
+            lowerTotal[player] += value;
+        }
+        if (SCORE_FIELD == ScoreCard.SCORE_FIELD_YAHTZEE && value == ScoreCard.VALUE_YAHTZEE) {
+            yahtzeeCount[player]++;
+        }
+    }
+
+    /**
+     * Scores a hand in one of a player's fields: writes its points, and counts a Yahtzee bonus if the hand earns one.
+     * @param handIndex hand index returned by HandTable.indexOf()
+     * @return points written to the field, without bonuses
+     * @throws java.lang.IllegalStateException if the field is already used or the joker rules forbid it
+     */
+    public int scoreHand(int player, int handIndex, int SCORE_FIELD) {
+        if (isScoreFieldSet(player, SCORE_FIELD)) {
+            throw new IllegalStateException("Cannot write to field " + SCORE_FIELD + " of player " + player + "! Already in use.");
+        }
+        int value = Rules.getPoints(usedMask[player], handIndex, SCORE_FIELD);
+        if (value == Rules.NOT_ALLOWED) {
+            throw new IllegalStateException("Cannot write to field " + SCORE_FIELD + " of player " + player + "! The joker rules require another field.");
+        }
+        boolean yahtzeeBonus = Rules.earnsYahtzeeBonus(yahtzeeCount[player] > 0, handIndex);
+        setScore(player, SCORE_FIELD, value);
+        if (yahtzeeBonus) {
+            yahtzeeCount[player]++;
+        }
+        return value;
+    }
+
+    /**
+     * Checks if a player may score a hand in a field.
+     * @return true if the field is open and the joker rules allow it
+     */
+    public boolean canScore(int player, int handIndex, int SCORE_FIELD) {
+        return Rules.canScore(usedMask[player], handIndex, SCORE_FIELD);
+    }
+
+    /**
+     * Writes the scores a player could earn with a hand to handScores. Fields the player has used, or that the joker
+     * rules forbid, are left at zero.
+     * @param handIndex hand index returned by HandTable.indexOf()
+     * @param handScores int[13] to receive the scores in ScoreCard.SCORE_FIELD order
+     */
+    public void calculateHand(int player, int handIndex, int[] handScores) {
+        Rules.calculateHand(usedMask[player], handIndex, handScores);
+    }
+
+    /**
+     * Returns the bit mask of the fields a player has used, bit i for ScoreCard.SCORE_FIELD i.
+     */
+    public int getUsedMask(int player) {
+        return usedMask[player];
+    }
+
+    public boolean isComplete(int player) {
+        return usedMask[player] == ALL_FIELDS;
+    }
+
+    public int getUpperSubtotal(int player) {
+        return upperSubtotal[player];
+    }
+
+    public boolean isBonusApplied(int player) {
+        return upperSubtotal[player] >= ScoreCard.BONUS_THRESHOLD;
+    }
+
+    public int getYahtzeeCount(int player) {
+        return yahtzeeCount[player];
+    }
+
+    public int getYahtzeeBonusValue(int player) {
+        return Rules.getYahtzeeBonusValue(yahtzeeCount[player]);
+    }
+
+    /**
+     * Returns a player's total score: upper subtotal, upper section bonus, lower total and Yahtzee bonus.
+     */
+    public int getTotalScore(int player) {
+        return upperSubtotal[player] + (isBonusApplied(player) ? ScoreCard.VALUE_UPPER_HALF_BONUS : 0) + lowerTotal[player]
+                + getYahtzeeBonusValue(player);
+    }
+
+    /**
+     * Returns the player with the highest total score. Ties go to the player who comes first in turn order.
+     */
+    public int getLeader() {
+        int leader = 0;
+        for (int player=1; player<names.length; player++) {
+            if (getTotalScore(player) > getTotalScore(leader)) {
+                leader = player;
+            }
+        }
+        return leader;
+    }
+}
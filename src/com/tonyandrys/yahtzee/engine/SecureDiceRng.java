@@ -0,0 +1,38 @@
+package com.tonyandrys.yahtzee.engine;
+
+import java.security.SecureRandom;
+
+/**
+ * com.tonyandrys.yahtzee.engine - SecureDiceRng
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Dice generator backed by SecureRandom, for games whose dice must not be predictable from earlier rolls, such as
+ * tournaments. It cannot be seeded, so replays of its games fall back to the dice recorded in the journal.
+ */
+public class SecureDiceRng extends DiceRng {
+
+    private final SecureRandom r;
+
+    public SecureDiceRng() {
+        this(new SecureRandom());
+    }
+
+    public SecureDiceRng(SecureRandom r) {
+        this.r = r;
+    }
+
+    @Override
+    public long nextLong() {
+        return r.nextLong();
+    }
+
+    @Override
+    public byte getAlgorithm() {
+        return ALGORITHM_SECURE;
+    }
+}
@@ -0,0 +1,54 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - SplitMix64
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Unsynchronized SplitMix64 dice generator.
+ *
+ * java.util.Random advances a shared AtomicLong with a CAS on every draw. SplitMix64 is a plain field update and a
+ * mixing function, so each simulation stream is cheap and never contends. java.util.SplittableRandom uses the same
+ * algorithm but is not available at the app's minSdkVersion.
+ *
+ * Instances are not thread-safe. Give every thread (or every independent stream of games) its own generator.
+ */
+public class SplitMix64 extends DiceRng {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    public SplitMix64(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Returns the generator of one numbered stream derived from a seed. Streams of the same seed are independent, and a
+     * stream's sequence depends only on (seed, stream), not on which thread draws from it.
+     */
+    public static SplitMix64 forStream(long seed, long stream) {
+        return new SplitMix64(mix(seed + mix(stream * GOLDEN_GAMMA)));
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    @Override
+    public byte getAlgorithm() {
+        return ALGORITHM_SPLITMIX64;
+    }
+
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,44 @@
+package com.tonyandrys.yahtzee.engine;
+
+/**
+ * com.tonyandrys.yahtzee.engine - Xoroshiro128
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * xoroshiro128** dice generator: 128 bits of state, a period of 2^128 - 1, and a few shifts, rotates and one multiply
+ * per draw. The state is expanded from a 64-bit seed with SplitMix64, as its authors recommend, so it is never all
+ * zeros.
+ *
+ * Instances are not thread-safe.
+ */
+public class Xoroshiro128 extends DiceRng {
+
+    private long s0;
+    private long s1;
+
+    public Xoroshiro128(long seed) {
+        SplitMix64 seeder = new SplitMix64(seed);
+        this.s0 = seeder.nextLong();
+        this.s1 = seeder.nextLong();
+    }
+
+    @Override
+    public long nextLong() {
+        long s0 = this.s0;
+        long s1 = this.s1;
+        long result = Long.rotateLeft(s0 * 5, 7) * 9;
+        s1 ^= s0;
+        this.s0 = Long.rotateLeft(s0, 24) ^ s1 ^ (s1 << 16);
+        this.s1 = Long.rotateLeft(s1, 37);
+        return result;
+    }
+
+    @Override
+    public byte getAlgorithm() {
+        return ALGORITHM_XOROSHIRO128;
+    }
+}
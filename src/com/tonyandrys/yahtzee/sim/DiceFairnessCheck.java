@@ -0,0 +1,147 @@
+package com.tonyandrys.yahtzee.sim;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.DiceRng;
+import com.tonyandrys.yahtzee.engine.SecureDiceRng;
+import com.tonyandrys.yahtzee.engine.SplitMix64;
+
+import java.io.PrintStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * com.tonyandrys.yahtzee.sim - DiceFairnessCheck
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Rolls dice through Board.rollDice with a DiceRng and tests whether they are fair. See DiceFairnessResult for the tests.
+ *
+ * Rolls are split into chunks the same way Simulator splits games. Chunk i rolls with a generator seeded from
+ * SplitMix64.forStream(seed, i), so a run is reproducible on any number of threads. Each chunk only counts its rolls,
+ * and chunk results are merged as they finish, so memory use does not grow with the number of rolls.
+ *
+ * Usage: java com.tonyandrys.yahtzee.sim.DiceFairnessCheck <rolls> [java|splitmix64|xoroshiro128|secure] [seed] [threads]
+ * Exits with status 2 if any test fails.
+ */
+public class DiceFairnessCheck {
+
+    // Rolls per chunk of work
+    public static final int ROLLS_PER_CHUNK = 1 << 22;
+
+    private static final String[] ALGORITHM_NAMES = {"java", "splitmix64", "xoroshiro128", "secure"};
+    private static final byte[] ALGORITHMS = {DiceRng.ALGORITHM_JAVA, DiceRng.ALGORITHM_SPLITMIX64,
+            DiceRng.ALGORITHM_XOROSHIRO128, DiceRng.ALGORITHM_SECURE};
+
+    private DiceFairnessCheck() {
+    }
+
+    /**
+     * Rolls all five dice `rolls` times on `threadCount` threads and counts the results.
+     * @param algorithm DiceRng.ALGORITHM of the generator to check
+     * @param seed seed every chunk's generator is derived from, ignored by generators that cannot be seeded
+     * @param progress printed to as chunks finish, or null
+     */
+    public static DiceFairnessResult run(byte algorithm, long rolls, long seed, int threadCount, PrintStream progress) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+        try {
+            CompletionService<DiceFairnessResult> completion = new ExecutorCompletionService<DiceFairnessResult>(pool);
+            int chunks = 0;
+            for (long first=0; first<rolls; first+=ROLLS_PER_CHUNK, chunks++) {
+                completion.submit(new ChunkTask(streamRng(algorithm, seed, chunks), (int)Math.min(ROLLS_PER_CHUNK, rolls - first)));
+            }
+
+            DiceFairnessResult result = new DiceFairnessResult();
+            for (int done=1; done<=chunks; done++) {
+                try {
+                    result.merge(completion.take().get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Dice fairness task failed", e.getCause());
+                }
+                if (progress != null && (done * 10 / chunks) != ((done - 1) * 10 / chunks)) {
+                    progress.println(result.getRolls() + " rolls counted (" + (done * 100 / chunks) + "%)");
+                }
+            }
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the generator of one numbered chunk.
+     */
+    static DiceRng streamRng(byte algorithm, long seed, long stream) {
+        if (algorithm == DiceRng.ALGORITHM_SECURE) {
+            return new SecureDiceRng();
+        }
+        return DiceRng.create(algorithm, SplitMix64.forStream(seed, stream).nextLong());
+    }
+
+    /**
+     * Rolls and counts one chunk on a single thread.
+     */
+    private static class ChunkTask implements Callable<DiceFairnessResult> {
+
+        private final DiceRng rng;
+        private final int rolls;
+
+        ChunkTask(DiceRng rng, int rolls) {
+            this.rng = rng;
+            this.rolls = rolls;
+        }
+
+        @Override
+        public DiceFairnessResult call() {
+            DiceFairnessResult result = new DiceFairnessResult();
+            Board board = new Board(rng);
+            int[] dice = new int[Board.DICE_COUNT];
+            int[] previous = new int[Board.DICE_COUNT];
+            for (int i=0; i<rolls; i++) {
+                board.rollDice();
+                board.getDiceValues(dice);
+                result.addRoll(dice, (i > 0) ? previous : null);
+                int[] swap = previous;
+                previous = dice;
+                dice = swap;
+            }
+            return result;
+        }
+    }
+
+    private static byte parseAlgorithm(String name) {
+        for (int i=0; i<ALGORITHM_NAMES.length; i++) {
+            if (ALGORITHM_NAMES[i].equalsIgnoreCase(name)) {
+                return ALGORITHMS[i];
+            }
+        }
+        throw new IllegalArgumentException("Unknown dice generator " + name);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: DiceFairnessCheck <rolls> [java|splitmix64|xoroshiro128|secure] [seed] [threads]");
+            System.exit(1);
+        }
+        long rolls = Long.parseLong(args[0]);
+        String name = (args.length > 1) ? args[1] : "xoroshiro128";
+        byte algorithm = parseAlgorithm(name);
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : System.nanoTime();
+        int threads = (args.length > 3) ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        long start = System.nanoTime();
+        DiceFairnessResult result = run(algorithm, rolls, seed, threads, System.out);
+        long elapsedMs = (System.nanoTime() - start) / 1000000L;
+
+        System.out.println(name + ", seed " + seed + ", " + threads + " threads, " + elapsedMs + " ms");
+        System.out.print(result);
+        System.exit(result.isFair() ? 0 : 2);
+    }
+}
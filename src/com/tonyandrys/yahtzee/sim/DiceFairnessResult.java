@@ -0,0 +1,262 @@
+package com.tonyandrys.yahtzee.sim;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.HandTable;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+
+import java.util.Arrays;
+
+/**
+ * com.tonyandrys.yahtzee.sim - DiceFairnessResult
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Counts gathered from a stream of five-dice rolls, and the fairness tests computed from them.
+ *
+ * Only counts are kept, never the rolls: the faces of each die, the pairs of faces of neighbouring dice within a roll,
+ * the pairs of faces of the same die in consecutive rolls, and the hand of every roll. Like SimulationResult, results
+ * of separate streams are combined by adding counters.
+ *
+ * Tests:
+ *   - chi-squared uniformity of the faces of each die
+ *   - chi-squared uniformity of the face pairs, within a roll and across consecutive rolls
+ *   - lag-1 correlation of the faces, within a roll and across consecutive rolls
+ *   - chi-squared of the 252 hands against their exact probabilities over the 7776 ordered rolls
+ *   - frequency of every lower section category against its exact probability (a Yahtzee is 6/7776)
+ */
+public class DiceFairnessResult {
+
+    // Tests with a p-value below this fail
+    public static final double ALPHA = 1e-4;
+
+    private static final int FACES = 6;
+
+    // Names of the lower section categories from three of a kind to Yahtzee
+    private static final String[] CATEGORY_NAMES = {"Three of a kind", "Four of a kind", "Full house", "Small straight",
+            "Large straight", "Yahtzee"};
+
+    // Exact probability of each hand in a single roll
+    private static final double[] HAND_PROBABILITIES = new double[HandTable.HAND_COUNT];
+
+    static {
+        // Count how many of the 6^5 ordered rolls produce each hand
+        int[] dice = new int[Board.DICE_COUNT];
+        for (int roll=0; roll<7776; roll++) {
+            int r = roll;
+            for (int i=0; i<Board.DICE_COUNT; i++) {
+                dice[i] = (r % FACES) + 1;
+                r /= FACES;
+            }
+            HAND_PROBABILITIES[HandTable.indexOf(dice)]++;
+        }
+        for (int hand=0; hand<HandTable.HAND_COUNT; hand++) {
+            HAND_PROBABILITIES[hand] /= 7776;
+        }
+    }
+
+    private long rolls;
+
+    // Face counts of each die, [die * FACES + face - 1]
+    private final long[] faceCounts;
+
+    // Counts of (first, second) face pairs, [(first - 1) * FACES + second - 1]
+    private final long[] neighbourPairs;
+    private final long[] consecutivePairs;
+
+    private final long[] handCounts;
+
+    public DiceFairnessResult() {
+        faceCounts = new long[Board.DICE_COUNT * FACES];
+        neighbourPairs = new long[FACES * FACES];
+        consecutivePairs = new long[FACES * FACES];
+        handCounts = new long[HandTable.HAND_COUNT];
+    }
+
+    /**
+     * Counts one roll of all five dice.
+     * @param dice values of the dice
+     * @param previous values of the dice in the previous roll of the same stream, or null for its first roll
+     */
+    public void addRoll(int[] dice, int[] previous) {
+        rolls++;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            faceCounts[(i * FACES) + dice[i] - 1]++;
+            if (i > 0) {
+                neighbourPairs[((dice[i-1] - 1) * FACES) + dice[i] - 1]++;
+            }
+            if (previous != null) {
+                consecutivePairs[((previous[i] - 1) * FACES) + dice[i] - 1]++;
+            }
+        }
+        handCounts[HandTable.indexOf(dice)]++;
+    }
+
+    /**
+     * Adds the counts of another result to this one.
+     */
+    public void merge(DiceFairnessResult other) {
+        rolls += other.rolls;
+        add(faceCounts, other.faceCounts);
+        add(neighbourPairs, other.neighbourPairs);
+        add(consecutivePairs, other.consecutivePairs);
+        add(handCounts, other.handCounts);
+    }
+
+    public long getRolls() {
+        return rolls;
+    }
+
+    /**
+     * Returns the probability of a roll producing a hand, as counted over the 7776 ordered rolls.
+     * @param handIndex hand index returned by HandTable.indexOf()
+     */
+    public static double getHandProbability(int handIndex) {
+        return HAND_PROBABILITIES[handIndex];
+    }
+
+    /**
+     * Returns the probability of a single roll scoring above zero in a category.
+     */
+    public static double getCategoryProbability(int SCORE_FIELD) {
+        double p = 0;
+        for (int hand=0; hand<HandTable.HAND_COUNT; hand++) {
+            if (HandTable.getScore(hand, SCORE_FIELD) > 0) {
+                p += HAND_PROBABILITIES[hand];
+            }
+        }
+        return p;
+    }
+
+    /**
+     * Runs every test.
+     * @return one Test per die, pair table, correlation, the hand table and each lower section category
+     */
+    public Test[] runTests() {
+        Test[] tests = new Test[Board.DICE_COUNT + 5 + (ScoreCard.SCORE_FIELD_YAHTZEE - ScoreCard.SCORE_FIELD_3_OF_A_KIND + 1)];
+        int t = 0;
+
+        double[] uniform = new double[FACES];
+        Arrays.fill(uniform, 1.0 / FACES);
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            long[] counts = Arrays.copyOfRange(faceCounts, i * FACES, (i + 1) * FACES);
+            tests[t++] = chiSquaredTest("Faces of die " + (i + 1), counts, uniform);
+        }
+
+        double[] uniformPairs = new double[FACES * FACES];
+        Arrays.fill(uniformPairs, 1.0 / (FACES * FACES));
+        tests[t++] = chiSquaredTest("Neighbouring dice pairs", neighbourPairs, uniformPairs);
+        tests[t++] = chiSquaredTest("Consecutive roll pairs", consecutivePairs, uniformPairs);
+        tests[t++] = correlationTest("Neighbouring dice correlation", neighbourPairs);
+        tests[t++] = correlationTest("Consecutive roll correlation", consecutivePairs);
+        tests[t++] = chiSquaredTest("Hands", handCounts, HAND_PROBABILITIES);
+
+        for (int field=ScoreCard.SCORE_FIELD_3_OF_A_KIND; field<=ScoreCard.SCORE_FIELD_YAHTZEE; field++) {
+            long observed = 0;
+            for (int hand=0; hand<HandTable.HAND_COUNT; hand++) {
+                if (HandTable.getScore(hand, field) > 0) {
+                    observed += handCounts[hand];
+                }
+            }
+            double p = getCategoryProbability(field);
+            double expected = rolls * p;
+            double z = (observed - expected) / Math.sqrt(expected * (1 - p));
+            tests[t++] = new Test(CATEGORY_NAMES[field - ScoreCard.SCORE_FIELD_3_OF_A_KIND] + " frequency", z, 0,
+                    Statistics.normalPValue(z), String.format("%.7f vs %.7f", (double)observed / rolls, p));
+        }
+        return tests;
+    }
+
+    /**
+     * Returns true if every test passed.
+     */
+    public boolean isFair() {
+        for (Test test : runTests()) {
+            if (!test.passed()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Test chiSquaredTest(String name, long[] counts, double[] probabilities) {
+        double chiSquared = Statistics.chiSquared(counts, probabilities);
+        int degreesOfFreedom = counts.length - 1;
+        return new Test(name, chiSquared, degreesOfFreedom, Statistics.chiSquaredPValue(chiSquared, degreesOfFreedom), "");
+    }
+
+    /**
+     * Tests the Pearson correlation of the first and second faces of a pair table against zero. Under independence
+     * r * sqrt(n) is approximately standard normal.
+     */
+    private static Test correlationTest(String name, long[] pairs) {
+        long n = 0;
+        double sumX = 0, sumY = 0, sumXX = 0, sumYY = 0, sumXY = 0;
+        for (int a=1; a<=FACES; a++) {
+            for (int b=1; b<=FACES; b++) {
+                long count = pairs[((a - 1) * FACES) + b - 1];
+                n += count;
+                sumX += (double)a * count;
+                sumY += (double)b * count;
+                sumXX += (double)a * a * count;
+                sumYY += (double)b * b * count;
+                sumXY += (double)a * b * count;
+            }
+        }
+        double covariance = (sumXY / n) - ((sumX / n) * (sumY / n));
+        double varianceX = (sumXX / n) - ((sumX / n) * (sumX / n));
+        double varianceY = (sumYY / n) - ((sumY / n) * (sumY / n));
+        double r = covariance / Math.sqrt(varianceX * varianceY);
+        double z = r * Math.sqrt(n);
+        return new Test(name, z, 0, Statistics.normalPValue(z), String.format("r = %.3e", r));
+    }
+
+    private static void add(long[] to, long[] from) {
+        for (int i=0; i<to.length; i++) {
+            to[i] += from[i];
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Rolls: ").append(rolls).append('\n');
+        for (Test test : runTests()) {
+            sb.append(test).append('\n');
+        }
+        sb.append(isFair() ? "All tests passed" : "SOME TESTS FAILED").append(" at alpha = ").append(ALPHA).append('\n');
+        return sb.toString();
+    }
+
+    /**
+     * Outcome of one test: its statistic (chi-squared, or a z-score when degreesOfFreedom is 0) and p-value.
+     */
+    public static class Test {
+        public final String name;
+        public final double statistic;
+        public final int degreesOfFreedom;
+        public final double pValue;
+        public final String detail;
+
+        Test(String name, double statistic, int degreesOfFreedom, double pValue, String detail) {
+            this.name = name;
+            this.statistic = statistic;
+            this.degreesOfFreedom = degreesOfFreedom;
+            this.pValue = pValue;
+            this.detail = detail;
+        }
+
+        public boolean passed() {
+            return pValue >= ALPHA;
+        }
+
+        @Override
+        public String toString() {
+            String kind = (degreesOfFreedom > 0) ? String.format("chi2(%d) = %.2f", degreesOfFreedom, statistic) : String.format("z = %.3f", statistic);
+            return String.format("%-32s %-22s p = %-10.4g %-4s %s", name, kind, pValue, passed() ? "ok" : "FAIL", detail).trim();
+        }
+    }
+}
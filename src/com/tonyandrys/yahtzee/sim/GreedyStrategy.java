@@ -0,0 +1,65 @@
+package com.tonyandrys.yahtzee.sim;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.Game;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+
+/**
+ * com.tonyandrys.yahtzee.sim - GreedyStrategy
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Baseline strategy: holds the most common dice value (the higher value on ties) and scores the open field worth the
+ * most points right now.
+ */
+public class GreedyStrategy implements Strategy {
+
+    public static final Factory FACTORY = new Factory() {
+        @Override
+        public Strategy newStrategy() {
+            return new GreedyStrategy();
+        }
+    };
+
+    private final int[] counts = new int[7];
+
+    @Override
+    public int chooseHold(Game game) {
+        Board board = game.getBoard();
+        for (int v=1; v<=6; v++) {
+            counts[v] = 0;
+        }
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            counts[board.getDieValue(i)]++;
+        }
+        int bestValue = 6;
+        for (int v=5; v>=1; v--) {
+            if (counts[v] > counts[bestValue]) {
+                bestValue = v;
+            }
+        }
+        int mask = 0;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            if (board.getDieValue(i) == bestValue) {
+                mask |= (1 << i);
+            }
+        }
+        return mask;
+    }
+
+    @Override
+    public int chooseField(Game game) {
+        int[] handScores = game.getScoreManager().getHandScores();
+        int bestField = -1;
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            if (game.canScore(i) && (bestField < 0 || handScores[i] > handScores[bestField])) {
+                bestField = i;
+            }
+        }
+        return bestField;
+    }
+}
@@ -0,0 +1,51 @@
+package com.tonyandrys.yahtzee.sim;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.Game;
+import com.tonyandrys.yahtzee.solver.HoldAdvisor;
+import com.tonyandrys.yahtzee.solver.StateValueTable;
+
+/**
+ * com.tonyandrys.yahtzee.sim - OptimalStrategy
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Plays every decision by the solved StateValueTable through a HoldAdvisor.
+ */
+public class OptimalStrategy implements Strategy {
+
+    private final HoldAdvisor advisor;
+    private final double[] holdValues = new double[HoldAdvisor.HOLD_MASK_COUNT];
+    private final int[] diceValues = new int[Board.DICE_COUNT];
+
+    public OptimalStrategy(StateValueTable table) {
+        this.advisor = new HoldAdvisor(table);
+    }
+
+    /**
+     * Returns a Factory of OptimalStrategy instances sharing one (read-only) table.
+     */
+    public static Factory factory(final StateValueTable table) {
+        return new Factory() {
+            @Override
+            public Strategy newStrategy() {
+                return new OptimalStrategy(table);
+            }
+        };
+    }
+
+    @Override
+    public int chooseHold(Game game) {
+        return advisor.advise(game.getBoard(), game.getRollsLeft(), game.getScoreCard(), holdValues);
+    }
+
+    @Override
+    public int chooseField(Game game) {
+        game.getBoard().getDiceValues(diceValues);
+        return advisor.bestField(diceValues, StateValueTable.stateIndex(game.getScoreCard()));
+    }
+}
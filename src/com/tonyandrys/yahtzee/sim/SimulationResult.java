@@ -0,0 +1,193 @@
+package com.tonyandrys.yahtzee.sim;
+
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+
+/**
+ * com.tonyandrys.yahtzee.sim - SimulationResult
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Aggregated statistics of a batch of simulated games. Results of separate batches are combined with merge(), which
+ * only adds counters, so the merged result does not depend on the order batches finish in.
+ */
+public class SimulationResult {
+
+    // Final scores at or above this are counted in the last histogram bucket.
+    public static final int MAX_HISTOGRAM_SCORE = 2047;
+
+    private long games;
+    private long scoreSum;
+    private long scoreSquareSum;
+    private int minScore;
+    private int maxScore;
+    private final long[] scoreHistogram;
+
+    // Per field: games where the field was scored above zero, and the sum of its scores
+    private final long[] fieldFilled;
+    private final long[] fieldScoreSum;
+
+    private long bonusGames;
+    private long yahtzeeGames;
+    private long yahtzeeTotal;
+
+    public SimulationResult() {
+        scoreHistogram = new long[MAX_HISTOGRAM_SCORE + 1];
+        fieldFilled = new long[ScoreCard.NUMBER_OF_FIELDS];
+        fieldScoreSum = new long[ScoreCard.NUMBER_OF_FIELDS];
+        minScore = Integer.MAX_VALUE;
+        maxScore = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Records the final ScoreCard of a finished game.
+     */
+    public void addGame(ScoreCard card) {
+        int score = card.getTotalScore();
+        games++;
+        scoreSum += score;
+        scoreSquareSum += (long)score * score;
+        minScore = Math.min(minScore, score);
+        maxScore = Math.max(maxScore, score);
+        scoreHistogram[Math.max(0, Math.min(score, MAX_HISTOGRAM_SCORE))]++;
+
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            int fieldScore = card.getPlayerScore(i);
+            if (fieldScore > 0) {
+                fieldFilled[i]++;
+            }
+            fieldScoreSum[i] += fieldScore;
+        }
+
+        if (card.isBonusApplied()) {
+            bonusGames++;
+        }
+        if (card.getYahtzeeCount() > 0) {
+            yahtzeeGames++;
+            yahtzeeTotal += card.getYahtzeeCount();
+        }
+    }
+
+    /**
+     * Adds the statistics of another result to this one.
+     */
+    public void merge(SimulationResult other) {
+        games += other.games;
+        scoreSum += other.scoreSum;
+        scoreSquareSum += other.scoreSquareSum;
+        minScore = Math.min(minScore, other.minScore);
+        maxScore = Math.max(maxScore, other.maxScore);
+        for (int i=0; i<=MAX_HISTOGRAM_SCORE; i++) {
+            scoreHistogram[i] += other.scoreHistogram[i];
+        }
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            fieldFilled[i] += other.fieldFilled[i];
+            fieldScoreSum[i] += other.fieldScoreSum[i];
+        }
+        bonusGames += other.bonusGames;
+        yahtzeeGames += other.yahtzeeGames;
+        yahtzeeTotal += other.yahtzeeTotal;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public double getMeanScore() {
+        return (games == 0) ? 0 : (double)scoreSum / games;
+    }
+
+    public double getScoreStandardDeviation() {
+        if (games == 0) {
+            return 0;
+        }
+        double mean = getMeanScore();
+        return Math.sqrt(Math.max(0, ((double)scoreSquareSum / games) - (mean * mean)));
+    }
+
+    public int getMinScore() {
+        return minScore;
+    }
+
+    public int getMaxScore() {
+        return maxScore;
+    }
+
+    /**
+     * Returns the number of games that finished with a score (scores above MAX_HISTOGRAM_SCORE share the last bucket).
+     */
+    public long getScoreCount(int score) {
+        return scoreHistogram[score];
+    }
+
+    /**
+     * Returns the lowest final score that at least `fraction` of the games did not exceed.
+     * @param fraction from 0 to 1, e.g. 0.5 for the median
+     */
+    public int getScorePercentile(double fraction) {
+        long target = (long)Math.ceil(fraction * games);
+        long seen = 0;
+        for (int score=0; score<=MAX_HISTOGRAM_SCORE; score++) {
+            seen += scoreHistogram[score];
+            if (seen >= target && seen > 0) {
+                return score;
+            }
+        }
+        return MAX_HISTOGRAM_SCORE;
+    }
+
+    /**
+     * Returns the fraction of games in which a field was scored above zero.
+     */
+    public double getFieldFillRate(int SCORE_FIELD) {
+        return (games == 0) ? 0 : (double)fieldFilled[SCORE_FIELD] / games;
+    }
+
+    public double getFieldMeanScore(int SCORE_FIELD) {
+        return (games == 0) ? 0 : (double)fieldScoreSum[SCORE_FIELD] / games;
+    }
+
+    /**
+     * Returns the fraction of games that earned the upper section bonus.
+     */
+    public double getBonusRate() {
+        return (games == 0) ? 0 : (double)bonusGames / games;
+    }
+
+    /**
+     * Returns the fraction of games with at least one Yahtzee.
+     */
+    public double getYahtzeeRate() {
+        return (games == 0) ? 0 : (double)yahtzeeGames / games;
+    }
+
+    /**
+     * Returns the average number of Yahtzees per game.
+     */
+    public double getYahtzeesPerGame() {
+        return (games == 0) ? 0 : (double)yahtzeeTotal / games;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Games: ").append(games).append('\n');
+        sb.append("Score: mean ").append(String.format("%.3f", getMeanScore()))
+                .append(", sd ").append(String.format("%.3f", getScoreStandardDeviation()))
+                .append(", min ").append(minScore)
+                .append(", p50 ").append(getScorePercentile(0.5))
+                .append(", p99 ").append(getScorePercentile(0.99))
+                .append(", max ").append(maxScore).append('\n');
+        sb.append("Upper bonus rate: ").append(String.format("%.4f", getBonusRate())).append('\n');
+        sb.append("Yahtzee rate: ").append(String.format("%.4f", getYahtzeeRate()))
+                .append(", per game ").append(String.format("%.4f", getYahtzeesPerGame())).append('\n');
+        for (int i=0; i<ScoreCard.NUMBER_OF_FIELDS; i++) {
+            sb.append("Field ").append(i).append(": fill rate ").append(String.format("%.4f", getFieldFillRate(i)))
+                    .append(", mean ").append(String.format("%.3f", getFieldMeanScore(i))).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,143 @@
+package com.tonyandrys.yahtzee.sim;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.DiceRng;
+import com.tonyandrys.yahtzee.engine.Game;
+import com.tonyandrys.yahtzee.engine.SplitMix64;
+import com.tonyandrys.yahtzee.solver.StateValueTable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * com.tonyandrys.yahtzee.sim - Simulator
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Plays batches of complete headless games with a Strategy and aggregates the results.
+ *
+ * Games are split into fixed-size chunks. Chunk i draws its dice from SplitMix64.forStream(seed, i) and gets its own
+ * Strategy, so the games played depend only on the seed and the game count. The thread count only decides how many
+ * chunks run at once, and results are merged by addition, so a run is reproducible on any number of threads.
+ *
+ * Usage: java com.tonyandrys.yahtzee.sim.Simulator <games> [seed] [threads] [state value table file]
+ * Without a table file the GreedyStrategy is played, otherwise the OptimalStrategy.
+ */
+public class Simulator {
+
+    // Games per chunk of work
+    public static final int GAMES_PER_CHUNK = 4096;
+
+    private Simulator() {
+    }
+
+    /**
+     * Plays `games` complete games on `threadCount` threads.
+     * @param factory creates the Strategy of each chunk
+     * @param games number of games to play
+     * @param seed seed of every dice stream
+     * @param threadCount number of worker threads
+     */
+    public static SimulationResult run(Strategy.Factory factory, long games, long seed, int threadCount) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Callable<SimulationResult>> tasks = new ArrayList<Callable<SimulationResult>>();
+            for (long first=0, chunk=0; first<games; first+=GAMES_PER_CHUNK, chunk++) {
+                tasks.add(new ChunkTask(factory, SplitMix64.forStream(seed, chunk), (int)Math.min(GAMES_PER_CHUNK, games - first)));
+            }
+
+            SimulationResult result = new SimulationResult();
+            for (Future<SimulationResult> f : pool.invokeAll(tasks)) {
+                try {
+                    result.merge(f.get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Simulation task failed", e.getCause());
+                }
+            }
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays one complete game with a Strategy.
+     * @return the finished Game
+     */
+    public static Game playGame(Strategy strategy, DiceRng rng) {
+        Game game = new Game(rng);
+        while (!game.isGameOver()) {
+            game.rollDice();
+            while (game.canRoll()) {
+                int holdMask = strategy.chooseHold(game);
+                if (holdMask == Strategy.HOLD_ALL) {
+                    break;
+                }
+                for (int i=0; i<Board.DICE_COUNT; i++) {
+                    game.holdDie(i, (holdMask & (1 << i)) != 0);
+                }
+                game.rollDice();
+            }
+            game.scoreField(strategy.chooseField(game));
+        }
+        return game;
+    }
+
+    /**
+     * Plays one chunk of games on a single thread.
+     */
+    private static class ChunkTask implements Callable<SimulationResult> {
+
+        private final Strategy.Factory factory;
+        private final SplitMix64 r;
+        private final int games;
+
+        ChunkTask(Strategy.Factory factory, SplitMix64 r, int games) {
+            this.factory = factory;
+            this.r = r;
+            this.games = games;
+        }
+
+        @Override
+        public SimulationResult call() {
+            Strategy strategy = factory.newStrategy();
+            SimulationResult result = new SimulationResult();
+            for (int i=0; i<games; i++) {
+                result.addGame(playGame(strategy, r).getScoreCard());
+            }
+            return result;
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: Simulator <games> [seed] [threads] [state value table file]");
+            System.exit(1);
+        }
+        long games = Long.parseLong(args[0]);
+        long seed = (args.length > 1) ? Long.parseLong(args[1]) : System.nanoTime();
+        int threads = (args.length > 2) ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        Strategy.Factory factory = GreedyStrategy.FACTORY;
+        if (args.length > 3) {
+            factory = OptimalStrategy.factory(StateValueTable.map(new File(args[3]), true));
+        }
+
+        long start = System.nanoTime();
+        SimulationResult result = run(factory, games, seed, threads);
+        long elapsedMs = (System.nanoTime() - start) / 1000000L;
+
+        System.out.println("Seed " + seed + ", " + threads + " threads, " + elapsedMs + " ms");
+        System.out.print(result);
+    }
+}
@@ -0,0 +1,137 @@
+package com.tonyandrys.yahtzee.sim;
+
+/**
+ * com.tonyandrys.yahtzee.sim - Statistics
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * p-values of the chi-squared and normal distributions, computed from the regularized incomplete gamma function.
+ */
+public final class Statistics {
+
+    private static final int MAX_ITERATIONS = 1000;
+    private static final double EPSILON = 1e-15;
+    private static final double TINY = 1e-300;
+
+    // Lanczos approximation coefficients (g = 7, n = 9)
+    private static final double[] LANCZOS = {0.99999999999980993, 676.5203681218851, -1259.1392167224028,
+            771.32342877765313, -176.61502916214059, 12.507343278686905, -0.13857109526572012,
+            9.9843695780195716e-6, 1.5056327351493116e-7};
+
+    private Statistics() {
+    }
+
+    /**
+     * Returns the chi-squared statistic of observed counts against the probability of each cell.
+     * @param observed count of each cell
+     * @param probabilities expected probability of each cell, summing to 1
+     */
+    public static double chiSquared(long[] observed, double[] probabilities) {
+        long total = 0;
+        for (long count : observed) {
+            total += count;
+        }
+        double chiSquared = 0;
+        for (int i=0; i<observed.length; i++) {
+            double expected = total * probabilities[i];
+            double difference = observed[i] - expected;
+            chiSquared += (difference * difference) / expected;
+        }
+        return chiSquared;
+    }
+
+    /**
+     * Returns the probability that a chi-squared variable with the given degrees of freedom is at least chiSquared.
+     */
+    public static double chiSquaredPValue(double chiSquared, int degreesOfFreedom) {
+        return regularizedGammaQ(degreesOfFreedom / 2.0, chiSquared / 2.0);
+    }
+
+    /**
+     * Returns the two-sided p-value of a standard normal z-score, the probability that |Z| is at least |z|.
+     */
+    public static double normalPValue(double z) {
+        // erfc(|z| / sqrt(2)) = Q(1/2, z^2 / 2)
+        return regularizedGammaQ(0.5, (z * z) / 2.0);
+    }
+
+    /**
+     * Returns the regularized upper incomplete gamma function Q(a, x) = Gamma(a, x) / Gamma(a). Uses the power series of
+     * P(a, x) below x = a + 1 and Legendre's continued fraction above it, where each converges quickly.
+     */
+    public static double regularizedGammaQ(double a, double x) {
+        if (x <= 0) {
+            return 1;
+        }
+        if (x < a + 1) {
+            return 1 - gammaSeries(a, x);
+        }
+        return gammaContinuedFraction(a, x);
+    }
+
+    /**
+     * Returns ln(Gamma(x)) for x > 0.
+     */
+    public static double logGamma(double x) {
+        if (x < 0.5) {
+            // Reflection formula
+            return Math.log(Math.PI / Math.sin(Math.PI * x)) - logGamma(1 - x);
+        }
+        x -= 1;
+        double sum = LANCZOS[0];
+        double t = x + 7.5;
+        for (int i=1; i<LANCZOS.length; i++) {
+            sum += LANCZOS[i] / (x + i);
+        }
+        return (0.5 * Math.log(2 * Math.PI)) + ((x + 0.5) * Math.log(t)) - t + Math.log(sum);
+    }
+
+    /**
+     * Regularized lower incomplete gamma P(a, x) by its power series.
+     */
+    private static double gammaSeries(double a, double x) {
+        double term = 1 / a;
+        double sum = term;
+        for (int n=1; n<MAX_ITERATIONS; n++) {
+            term *= x / (a + n);
+            sum += term;
+            if (Math.abs(term) < Math.abs(sum) * EPSILON) {
+                break;
+            }
+        }
+        return sum * Math.exp((a * Math.log(x)) - x - logGamma(a));
+    }
+
+    /**
+     * Regularized upper incomplete gamma Q(a, x) by its continued fraction, evaluated with the modified Lentz method.
+     */
+    private static double gammaContinuedFraction(double a, double x) {
+        double b = x + 1 - a;
+        double c = 1 / TINY;
+        double d = 1 / b;
+        double h = d;
+        for (int n=1; n<MAX_ITERATIONS; n++) {
+            double an = -n * (n - a);
+            b += 2;
+            d = (an * d) + b;
+            if (Math.abs(d) < TINY) {
+                d = TINY;
+            }
+            c = b + (an / c);
+            if (Math.abs(c) < TINY) {
+                c = TINY;
+            }
+            d = 1 / d;
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1) < EPSILON) {
+                break;
+            }
+        }
+        return h * Math.exp((a * Math.log(x)) - x - logGamma(a));
+    }
+}
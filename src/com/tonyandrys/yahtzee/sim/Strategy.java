@@ -0,0 +1,40 @@
+package com.tonyandrys.yahtzee.sim;
+
+import com.tonyandrys.yahtzee.engine.Game;
+
+/**
+ * com.tonyandrys.yahtzee.sim - Strategy
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Decides how a simulated player plays a round: which dice to hold between rolls and which field to score.
+ * Strategies may keep scratch state, so each simulation worker creates its own through a Factory.
+ */
+public interface Strategy {
+
+    // Hold mask that keeps every die. Returning it from chooseHold() ends the round's rolling early.
+    int HOLD_ALL = 0x1F;
+
+    /**
+     * Chooses the dice to hold before the next roll. Called only while game.canRoll() is true.
+     * @return hold mask, bit i set to hold die i
+     */
+    int chooseHold(Game game);
+
+    /**
+     * Chooses the field to score the current dice in.
+     * @return ScoreCard.SCORE_FIELD constant of an open field
+     */
+    int chooseField(Game game);
+
+    /**
+     * Creates an independent Strategy instance for each simulation worker.
+     */
+    interface Factory {
+        Strategy newStrategy();
+    }
+}
@@ -0,0 +1,240 @@
+package com.tonyandrys.yahtzee.solver;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.Game;
+import com.tonyandrys.yahtzee.engine.HandTable;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+
+import java.util.Arrays;
+
+/**
+ * com.tonyandrys.yahtzee.solver - CategoryOdds
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Exact odds of each category by the end of the turn, such as the chance of making a large straight before rolling
+ * again. Given the dice, the holds and the rolls left, it gives the distribution of the points each of the 13
+ * categories will be worth once the turn's rolls are used up.
+ *
+ * The next roll keeps the dice that are held now. After that, the player is assumed to chase each category on its own,
+ * holding whatever maximizes the category's expected points, which for the all-or-nothing categories is the same as
+ * maximizing the chance of making them. Those target keeps are computed once for all categories when the class loads.
+ * Points come from HandTable, before joker rules and bonuses.
+ *
+ * Rolling from a keep is a Markov step over the 252 hands, and KeepTable holds its transition probabilities. The
+ * distributions of every category for a (keep, rolls left) pair are computed on first use, by pushing the target
+ * keeps' distributions through that step, and memoized. After that a query is one table lookup per category. All 13
+ * distributions of a pair fit in COMPACT_SIZE doubles, because each category can only score a few distinct values.
+ *
+ * Memoized results are reused between calls, so an instance must only be used by one thread at a time.
+ */
+public class CategoryOdds {
+
+    // Highest number of points any category can score
+    public static final int MAX_POINTS = ScoreCard.VALUE_YAHTZEE;
+
+    // Hold mask that keeps every die
+    private static final int HOLD_ALL = (1 << Board.DICE_COUNT) - 1;
+
+    // Distinct point values of each category, and where each category's values start in a compact distribution
+    private static final int[][] VALUES = new int[ScoreCard.NUMBER_OF_FIELDS][];
+    private static final int[] SLOT_START = new int[ScoreCard.NUMBER_OF_FIELDS + 1];
+
+    // Slot of a category's points within a compact distribution, [SCORE_FIELD * (MAX_POINTS + 1) + points], or -1 if the
+    // category can never score that many points
+    private static final short[] SLOT = new short[ScoreCard.NUMBER_OF_FIELDS * (MAX_POINTS + 1)];
+
+    // Doubles in the compact distributions of all 13 categories
+    public static final int COMPACT_SIZE;
+
+    // Keep each category targets from each hand with 1 and 2 rolls left, [(rollsLeft - 1) * 13 + SCORE_FIELD][hand]
+    private static final short[][] TARGET_KEEP = new short[2 * ScoreCard.NUMBER_OF_FIELDS][HandTable.HAND_COUNT];
+
+    static {
+        boolean[] seen = new boolean[MAX_POINTS + 1];
+        int slots = 0;
+        Arrays.fill(SLOT, (short)-1);
+        for (int field=0; field<ScoreCard.NUMBER_OF_FIELDS; field++) {
+            Arrays.fill(seen, false);
+            seen[0] = true;
+            for (int h=0; h<HandTable.HAND_COUNT; h++) {
+                seen[HandTable.getScore(h, field)] = true;
+            }
+            int count = 0;
+            for (int points=0; points<=MAX_POINTS; points++) {
+                if (seen[points]) {
+                    count++;
+                }
+            }
+            VALUES[field] = new int[count];
+            SLOT_START[field] = slots;
+            count = 0;
+            for (int points=0; points<=MAX_POINTS; points++) {
+                if (seen[points]) {
+                    VALUES[field][count] = points;
+                    SLOT[(field * (MAX_POINTS + 1)) + points] = (short)(slots + count);
+                    count++;
+                }
+            }
+            slots += count;
+        }
+        SLOT_START[ScoreCard.NUMBER_OF_FIELDS] = slots;
+        COMPACT_SIZE = slots;
+
+        // Expected points of each category from every hand and keep, maximized over the keeps a hand can hold.
+        double[] handValues = new double[HandTable.HAND_COUNT];
+        double[] keepValues = new double[KeepTable.KEEP_COUNT];
+        for (int field=0; field<ScoreCard.NUMBER_OF_FIELDS; field++) {
+            for (int h=0; h<HandTable.HAND_COUNT; h++) {
+                handValues[h] = HandTable.getScore(h, field);
+            }
+            for (int rollsLeft=1; rollsLeft<=2; rollsLeft++) {
+                TurnEvaluator.expectKeeps(handValues, keepValues);
+                short[] targets = TARGET_KEEP[((rollsLeft - 1) * ScoreCard.NUMBER_OF_FIELDS) + field];
+                for (int h=0; h<HandTable.HAND_COUNT; h++) {
+                    int end = KeepTable.getHandKeepEnd(h);
+                    int best = KeepTable.getHandKeep(KeepTable.getHandKeepStart(h));
+                    for (int i=KeepTable.getHandKeepStart(h); i<end; i++) {
+                        int keep = KeepTable.getHandKeep(i);
+                        if (keepValues[keep] > keepValues[best]) {
+                            best = keep;
+                        }
+                    }
+                    targets[h] = (short)best;
+                    handValues[h] = keepValues[best];
+                }
+            }
+        }
+    }
+
+    // Memoized compact distributions, [(rollsLeft - 1) * KEEP_COUNT + keep], null until first needed
+    private final double[][] memo = new double[Game.ROLLS_PER_ROUND * KeepTable.KEEP_COUNT][];
+
+    private final int[] diceValues = new int[Board.DICE_COUNT];
+
+    /**
+     * Computes the odds of every category for the dice on a Board.
+     * @param board Board holding the current dice and holds
+     * @param rollsLeft rolls left in this turn, 0 to 3. With 3 left the dice have not been rolled and holds are ignored.
+     * @return compact distributions of all 13 categories, to read with getProbability() and friends. The array is
+     *         memoized and must not be modified.
+     */
+    public double[] query(Board board, int rollsLeft) {
+        int holdMask = 0;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            diceValues[i] = board.getDieValue(i);
+            if (board.isDieHeld(i)) {
+                holdMask |= (1 << i);
+            }
+        }
+        return query(diceValues, holdMask, rollsLeft);
+    }
+
+    /**
+     * Computes the odds of every category for a hand.
+     * @param dice values of the five dice, ignored with 3 rolls left
+     * @param holdMask bit i set if die i is held, ignored with 0 or 3 rolls left
+     * @param rollsLeft rolls left in this turn, 0 to 3
+     * @return compact distributions of all 13 categories. The array is memoized and must not be modified.
+     * @throws java.lang.IllegalArgumentException if rollsLeft is outside 0 to 3
+     */
+    public double[] query(int[] dice, int holdMask, int rollsLeft) {
+        if (rollsLeft < 0 || rollsLeft > Game.ROLLS_PER_ROUND) {
+            throw new IllegalArgumentException("Rolls left must be from 0 to " + Game.ROLLS_PER_ROUND + "! Received: " + rollsLeft);
+        }
+        if (rollsLeft == Game.ROLLS_PER_ROUND) {
+            return getKeepOdds(KeepTable.EMPTY_KEEP, rollsLeft);
+        }
+        if (rollsLeft == 0) {
+            // Nothing left to roll, so each category scores the current hand. Rolling no dice from the whole hand gives
+            // exactly that.
+            return getKeepOdds(KeepTable.indexOf(dice, HOLD_ALL), 1);
+        }
+        return getKeepOdds(KeepTable.indexOf(dice, holdMask), rollsLeft);
+    }
+
+    /**
+     * Returns the probability that a category is worth exactly `points` at the end of the turn.
+     * @param odds distributions returned by query()
+     */
+    public static double getProbability(double[] odds, int SCORE_FIELD, int points) {
+        if (points < 0 || points > MAX_POINTS) {
+            return 0;
+        }
+        int slot = SLOT[(SCORE_FIELD * (MAX_POINTS + 1)) + points];
+        return (slot < 0) ? 0 : odds[slot];
+    }
+
+    /**
+     * Returns the probability that a category is worth any points at the end of the turn, such as making a straight.
+     * @param odds distributions returned by query()
+     */
+    public static double getScoringProbability(double[] odds, int SCORE_FIELD) {
+        return 1 - odds[SLOT_START[SCORE_FIELD]];
+    }
+
+    /**
+     * Returns the expected points of a category at the end of the turn.
+     * @param odds distributions returned by query()
+     */
+    public static double getExpectedPoints(double[] odds, int SCORE_FIELD) {
+        double expected = 0;
+        int start = SLOT_START[SCORE_FIELD];
+        for (int i=0; i<VALUES[SCORE_FIELD].length; i++) {
+            expected += VALUES[SCORE_FIELD][i] * odds[start + i];
+        }
+        return expected;
+    }
+
+    /**
+     * Copies the full distribution of a category: out[p] receives the probability of it being worth p points.
+     * @param odds distributions returned by query()
+     * @param out array of length MAX_POINTS + 1
+     */
+    public static void getDistribution(double[] odds, int SCORE_FIELD, double[] out) {
+        Arrays.fill(out, 0);
+        int start = SLOT_START[SCORE_FIELD];
+        for (int i=0; i<VALUES[SCORE_FIELD].length; i++) {
+            out[VALUES[SCORE_FIELD][i]] = odds[start + i];
+        }
+    }
+
+    /**
+     * Returns the memoized distributions of rolling the free dice of a keep with rollsLeft rolls to go, computing them
+     * first if needed.
+     */
+    private double[] getKeepOdds(int keep, int rollsLeft) {
+        int index = ((rollsLeft - 1) * KeepTable.KEEP_COUNT) + keep;
+        double[] odds = memo[index];
+        if (odds != null) {
+            return odds;
+        }
+        odds = new double[COMPACT_SIZE];
+        int end = KeepTable.getOutcomeEnd(keep);
+        for (int o=KeepTable.getOutcomeStart(keep); o<end; o++) {
+            double p = KeepTable.getOutcomeProbability(o);
+            int hand = KeepTable.getOutcomeHand(o);
+            if (rollsLeft == 1) {
+                // Last roll: each category scores the hand it reaches.
+                for (int field=0; field<ScoreCard.NUMBER_OF_FIELDS; field++) {
+                    odds[SLOT[(field * (MAX_POINTS + 1)) + HandTable.getScore(hand, field)]] += p;
+                }
+            } else {
+                // Each category holds its own target keep from the reached hand and rolls on.
+                for (int field=0; field<ScoreCard.NUMBER_OF_FIELDS; field++) {
+                    int target = TARGET_KEEP[((rollsLeft - 2) * ScoreCard.NUMBER_OF_FIELDS) + field][hand];
+                    double[] next = getKeepOdds(target, rollsLeft - 1);
+                    for (int s=SLOT_START[field]; s<SLOT_START[field + 1]; s++) {
+                        odds[s] += p * next[s];
+                    }
+                }
+            }
+        }
+        memo[index] = odds;
+        return odds;
+    }
+}
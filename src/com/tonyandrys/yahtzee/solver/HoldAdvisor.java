@@ -0,0 +1,112 @@
+package com.tonyandrys.yahtzee.solver;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.HandTable;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+
+/**
+ * com.tonyandrys.yahtzee.solver - HoldAdvisor
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Recommends which dice to hold, and which field to score, by reading a solved StateValueTable.
+ *
+ * The value of every keep with one and two rolls left depends only on the ScoreCard state, which does not change
+ * during a round. They are computed with KeepTable's transition probabilities on the first query of a round and cached,
+ * so later queries in the same round are 32 keep lookups. Nothing is allocated per query.
+ *
+ * Scratch arrays are reused between calls, so an instance must only be used by one thread at a time.
+ */
+public class HoldAdvisor {
+
+    // Every subset of the five dice, as a bit mask where bit i holds die i
+    public static final int HOLD_MASK_COUNT = 1 << Board.DICE_COUNT;
+
+    private final TurnEvaluator evaluator;
+
+    // Keep values with 1 and 2 rolls left for cachedState, and scratch hand values
+    private final double[] keepValues1 = new double[KeepTable.KEEP_COUNT];
+    private final double[] keepValues2 = new double[KeepTable.KEEP_COUNT];
+    private final double[] handValues = new double[HandTable.HAND_COUNT];
+    private final int[] diceValues = new int[Board.DICE_COUNT];
+    private int cachedState;
+    private int cachedRolls;
+
+    public HoldAdvisor(StateValueTable table) {
+        this.evaluator = new TurnEvaluator(table);
+        this.cachedState = -1;
+        this.cachedRolls = 0;
+    }
+
+    /**
+     * Computes the expected final score of every hold and returns the best one.
+     * @param board Board holding the current dice
+     * @param rollsLeft rolls left in this round, 1 or 2
+     * @param card player's ScoreCard
+     * @param holdValues array of length HOLD_MASK_COUNT to receive the expected score still to be earned for each hold mask
+     * @return hold mask with the highest expected score
+     */
+    public int advise(Board board, int rollsLeft, ScoreCard card, double[] holdValues) {
+        board.getDiceValues(diceValues);
+        return advise(diceValues, rollsLeft, StateValueTable.stateIndex(card), holdValues);
+    }
+
+    /**
+     * Computes the expected final score of every hold and returns the best one.
+     * @param dice integer values of the five dice
+     * @param rollsLeft rolls left in this round, 1 or 2
+     * @param stateIndex StateValueTable.stateIndex() of the ScoreCard
+     * @param holdValues array of length HOLD_MASK_COUNT to receive the expected score still to be earned for each hold mask
+     * @return hold mask with the highest expected score
+     * @throws java.lang.IllegalArgumentException if rollsLeft is not 1 or 2
+     */
+    public int advise(int[] dice, int rollsLeft, int stateIndex, double[] holdValues) {
+        double[] keepValues = getKeepValues(stateIndex, rollsLeft);
+        int bestMask = 0;
+        for (int mask=0; mask<HOLD_MASK_COUNT; mask++) {
+            holdValues[mask] = keepValues[KeepTable.indexOf(dice, mask)];
+            if (holdValues[mask] > holdValues[bestMask]) {
+                bestMask = mask;
+            }
+        }
+        return bestMask;
+    }
+
+    /**
+     * Returns the field that maximizes the expected final score when the current dice are scored.
+     * @param dice integer values of the five dice
+     * @param stateIndex StateValueTable.stateIndex() of the ScoreCard
+     * @return ScoreCard.SCORE_FIELD constant of the best open field
+     */
+    public int bestField(int[] dice, int stateIndex) {
+        return evaluator.bestField(stateIndex, HandTable.indexOf(dice));
+    }
+
+    /**
+     * Returns the value of every keep for a state with rollsLeft rolls to go, computing it if it is not cached.
+     */
+    private double[] getKeepValues(int stateIndex, int rollsLeft) {
+        if (rollsLeft < 1 || rollsLeft > 2) {
+            throw new IllegalArgumentException("Holds can only be chosen with 1 or 2 rolls left! Received: " + rollsLeft);
+        }
+        if (stateIndex != cachedState) {
+            cachedState = stateIndex;
+            cachedRolls = 0;
+        }
+        if (cachedRolls < 1) {
+            evaluator.scoreHands(stateIndex, handValues);
+            TurnEvaluator.expectKeeps(handValues, keepValues1);
+            cachedRolls = 1;
+        }
+        if (rollsLeft == 2 && cachedRolls < 2) {
+            TurnEvaluator.bestKeeps(keepValues1, handValues);
+            TurnEvaluator.expectKeeps(handValues, keepValues2);
+            cachedRolls = 2;
+        }
+        return (rollsLeft == 1) ? keepValues1 : keepValues2;
+    }
+}
@@ -0,0 +1,261 @@
+package com.tonyandrys.yahtzee.solver;
+
+import com.tonyandrys.yahtzee.engine.Board;
+import com.tonyandrys.yahtzee.engine.HandTable;
+
+/**
+ * com.tonyandrys.yahtzee.solver - KeepTable
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Precomputed transitions between hands and the dice a player can keep from them.
+ *
+ * A keep is the multiset of dice held before a roll (0 to 5 dice), so 462 distinct keeps exist. For every keep this table
+ * stores each hand that rolling the remaining dice can produce along with its probability, and for every hand it stores
+ * the distinct keeps that can be held from it. Both lists are flattened into shared arrays indexed by a start offset.
+ *
+ * Keeps use the same key encoding as HandTable: the sum of 6^(value-1) over the kept dice.
+ */
+public final class KeepTable {
+
+    // Number of distinct multisets of 0 to 5 dice.
+    public static final int KEEP_COUNT = 462;
+
+    // Keep key -> keep index, and the reverse.
+    private static final short[] KEY_TO_KEEP = new short[HandTable.KEY_COUNT];
+    private static final int[] KEEP_KEY = new int[KEEP_COUNT];
+
+    // Keep index of holding no dice at all (the first roll of a round).
+    public static final int EMPTY_KEEP;
+
+    // Keep -> (hand, probability) outcomes of rolling the dice that are not kept. Outcomes of keep k are stored at
+    // [OUTCOME_START[k], OUTCOME_START[k+1]).
+    private static final int[] OUTCOME_START = new int[KEEP_COUNT + 1];
+    private static final int[] OUTCOME_HAND;
+    private static final double[] OUTCOME_PROBABILITY;
+
+    // Hand -> distinct keeps that can be held from it, stored at [HAND_KEEP_START[h], HAND_KEEP_START[h+1]).
+    private static final int[] HAND_KEEP_START = new int[HandTable.HAND_COUNT + 1];
+    private static final int[] HAND_KEEPS;
+
+    static {
+        // Enumerate every keep as a vector of dice counts with at most 5 dice in total.
+        int[] counts = new int[6];
+        int keepCount = 0;
+        int outcomeCount = 0;
+        for (counts[0]=0; counts[0]<=5; counts[0]++) {
+            for (counts[1]=0; counts[0]+counts[1]<=5; counts[1]++) {
+                for (counts[2]=0; counts[0]+counts[1]+counts[2]<=5; counts[2]++) {
+                    for (counts[3]=0; counts[0]+counts[1]+counts[2]+counts[3]<=5; counts[3]++) {
+                        for (counts[4]=0; counts[0]+counts[1]+counts[2]+counts[3]+counts[4]<=5; counts[4]++) {
+                            for (counts[5]=0; counts[0]+counts[1]+counts[2]+counts[3]+counts[4]+counts[5]<=5; counts[5]++) {
+                                int key = keyOfCounts(counts);
+                                KEY_TO_KEEP[key] = (short)keepCount;
+                                KEEP_KEY[keepCount] = key;
+                                keepCount++;
+                                outcomeCount += outcomeCount(Board.DICE_COUNT - sizeOfCounts(counts));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        EMPTY_KEEP = KEY_TO_KEEP[0];
+
+        // Roll the free dice of every keep. Each multiset of rolled dice leads to a distinct hand.
+        OUTCOME_HAND = new int[outcomeCount];
+        OUTCOME_PROBABILITY = new double[outcomeCount];
+        int[] rolled = new int[6];
+        int offset = 0;
+        for (int k=0; k<KEEP_COUNT; k++) {
+            OUTCOME_START[k] = offset;
+            int freeDice = Board.DICE_COUNT - sizeOfCounts(decodeCounts(KEEP_KEY[k], counts));
+            offset = addOutcomes(KEEP_KEY[k], freeDice, rolled, 0, freeDice, offset);
+        }
+        OUTCOME_START[KEEP_COUNT] = offset;
+
+        // List the keeps of every hand by walking each sub-vector of its dice counts.
+        int handKeepCount = 0;
+        for (int h=0; h<HandTable.HAND_COUNT; h++) {
+            HandTable.getCounts(h, counts);
+            handKeepCount += (counts[0]+1) * (counts[1]+1) * (counts[2]+1) * (counts[3]+1) * (counts[4]+1) * (counts[5]+1);
+        }
+        HAND_KEEPS = new int[handKeepCount];
+        offset = 0;
+        for (int h=0; h<HandTable.HAND_COUNT; h++) {
+            HAND_KEEP_START[h] = offset;
+            HandTable.getCounts(h, counts);
+            offset = addKeeps(counts, 0, 0, offset);
+        }
+        HAND_KEEP_START[HandTable.HAND_COUNT] = offset;
+    }
+
+    private KeepTable() {
+    }
+
+    /**
+     * Returns the keep index of the dice that are held in a hand.
+     * @param diceValues integer values of the five dice, each from 1 to 6
+     * @param holdMask bit i set if die i is held
+     * @return keep index of the held dice
+     */
+    public static int indexOf(int[] diceValues, int holdMask) {
+        int key = 0;
+        for (int i=0; i<Board.DICE_COUNT; i++) {
+            if ((holdMask & (1 << i)) != 0) {
+                key += HandTable.keyWeight(diceValues[i]);
+            }
+        }
+        return KEY_TO_KEEP[key];
+    }
+
+    /**
+     * Returns the keep index of a multiset of held dice.
+     * @param counts number of held dice showing each value (1-6) in counts[0-5], at most 5 in total
+     * @return keep index of the held dice
+     */
+    public static int indexOfCounts(int[] counts) {
+        return KEY_TO_KEEP[keyOfCounts(counts)];
+    }
+
+    public static int getOutcomeStart(int keepIndex) {
+        return OUTCOME_START[keepIndex];
+    }
+
+    public static int getOutcomeEnd(int keepIndex) {
+        return OUTCOME_START[keepIndex + 1];
+    }
+
+    /**
+     * Returns the hand index reached by an outcome.
+     * @param outcome outcome offset in [getOutcomeStart(k), getOutcomeEnd(k))
+     */
+    public static int getOutcomeHand(int outcome) {
+        return OUTCOME_HAND[outcome];
+    }
+
+    /**
+     * Returns the probability of an outcome given its keep.
+     * @param outcome outcome offset in [getOutcomeStart(k), getOutcomeEnd(k))
+     */
+    public static double getOutcomeProbability(int outcome) {
+        return OUTCOME_PROBABILITY[outcome];
+    }
+
+    public static int getHandKeepStart(int handIndex) {
+        return HAND_KEEP_START[handIndex];
+    }
+
+    public static int getHandKeepEnd(int handIndex) {
+        return HAND_KEEP_START[handIndex + 1];
+    }
+
+    /**
+     * Returns a keep that can be held from a hand.
+     * @param offset offset in [getHandKeepStart(h), getHandKeepEnd(h))
+     */
+    public static int getHandKeep(int offset) {
+        return HAND_KEEPS[offset];
+    }
+
+    /**
+     * Writes the number of kept dice showing each value (1-6) to counts[0-5].
+     * @param keepIndex keep index
+     * @param counts array of length 6 to receive the dice counts
+     */
+    public static void getCounts(int keepIndex, int[] counts) {
+        decodeCounts(KEEP_KEY[keepIndex], counts);
+    }
+
+    /**
+     * Returns the number of dice held by a keep.
+     */
+    public static int getSize(int keepIndex) {
+        int key = KEEP_KEY[keepIndex];
+        int size = 0;
+        for (int i=0; i<6; i++) {
+            size += key % 6;
+            key /= 6;
+        }
+        return size;
+    }
+
+    /**
+     * Recursively enumerates the multisets of `remaining` rolled dice (values >= minValue) and records the hand each one
+     * completes, with probability n! / (r1! * ... * r6!) / 6^n.
+     */
+    private static int addOutcomes(int keepKey, int freeDice, int[] rolled, int minValue, int remaining, int offset) {
+        if (remaining == 0) {
+            int key = keepKey;
+            double probability = factorial(freeDice);
+            for (int i=0; i<6; i++) {
+                key += rolled[i] * HandTable.keyWeight(i + 1);
+                probability /= factorial(rolled[i]);
+            }
+            OUTCOME_HAND[offset] = HandTable.indexOfKey(key);
+            OUTCOME_PROBABILITY[offset] = probability / Math.pow(6, freeDice);
+            return offset + 1;
+        }
+        for (int v=minValue; v<6; v++) {
+            rolled[v]++;
+            offset = addOutcomes(keepKey, freeDice, rolled, v, remaining - 1, offset);
+            rolled[v]--;
+        }
+        return offset;
+    }
+
+    /**
+     * Recursively enumerates every sub-vector of a hand's dice counts and records the keep it represents.
+     */
+    private static int addKeeps(int[] handCounts, int value, int key, int offset) {
+        if (value == 6) {
+            HAND_KEEPS[offset] = KEY_TO_KEEP[key];
+            return offset + 1;
+        }
+        for (int c=0; c<=handCounts[value]; c++) {
+            offset = addKeeps(handCounts, value + 1, key + (c * HandTable.keyWeight(value + 1)), offset);
+        }
+        return offset;
+    }
+
+    private static int outcomeCount(int freeDice) {
+        // Multisets of freeDice values from 6 faces: C(freeDice + 5, 5)
+        int n = 1;
+        for (int i=1; i<=5; i++) {
+            n = n * (freeDice + i) / i;
+        }
+        return n;
+    }
+
+    private static int keyOfCounts(int[] counts) {
+        int key = 0;
+        for (int i=0; i<6; i++) {
+            key += counts[i] * HandTable.keyWeight(i + 1);
+        }
+        return key;
+    }
+
+    private static int sizeOfCounts(int[] counts) {
+        return counts[0] + counts[1] + counts[2] + counts[3] + counts[4] + counts[5];
+    }
+
+    private static int[] decodeCounts(int key, int[] counts) {
+        for (int i=0; i<6; i++) {
+            counts[i] = key % 6;
+            key /= 6;
+        }
+        return counts;
+    }
+
+    private static double factorial(int n) {
+        double f = 1;
+        for (int i=2; i<=n; i++) {
+            f *= i;
+        }
+        return f;
+    }
+}
@@ -0,0 +1,169 @@
+package com.tonyandrys.yahtzee.solver;
+
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * com.tonyandrys.yahtzee.solver - Solver
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Computes the optimal expected final score of every ScoreCard state by backward induction.
+ *
+ * States with every field used are worth nothing. A state with n used fields only leads to states with n+1 used
+ * fields, so the table is filled one layer at a time from 12 used fields down to 0. Every state in a layer is
+ * independent of the others, so each layer is split across a fixed thread pool.
+ *
+ * Usage: java com.tonyandrys.yahtzee.solver.Solver <output file> [threads] [float32|int16]
+ */
+public class Solver {
+
+    // Number of field masks handed to a worker at once
+    private static final int MASKS_PER_TASK = 16;
+
+    private Solver() {
+    }
+
+    /**
+     * Solves every reachable state.
+     * @param threadCount number of worker threads
+     * @return table of optimal expected scores. Unreachable states are left at zero.
+     */
+    public static StateValueTable solve(int threadCount) throws InterruptedException {
+        final StateValueTable table = new StateValueTable();
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+        try {
+            for (int usedFields=ScoreCard.NUMBER_OF_FIELDS-1; usedFields>=0; usedFields--) {
+                List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+                int[] masks = new int[MASKS_PER_TASK];
+                int maskCount = 0;
+                for (int mask=0; mask<=StateValueTable.FULL_FIELD_MASK; mask++) {
+                    if (Integer.bitCount(mask) != usedFields) {
+                        continue;
+                    }
+                    masks[maskCount++] = mask;
+                    if (maskCount == MASKS_PER_TASK) {
+                        tasks.add(new LayerTask(table, masks, maskCount));
+                        masks = new int[MASKS_PER_TASK];
+                        maskCount = 0;
+                    }
+                }
+                if (maskCount > 0) {
+                    tasks.add(new LayerTask(table, masks, maskCount));
+                }
+
+                // invokeAll waits for the whole layer before the next one reads from it.
+                for (Future<Void> f : pool.invokeAll(tasks)) {
+                    try {
+                        f.get();
+                    } catch (ExecutionException e) {
+                        throw new IllegalStateException("Solver task failed", e.getCause());
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return table;
+    }
+
+    /**
+     * Returns a bit set of the upper section subtotals (capped at 63) that can be reached once exactly the upper fields
+     * in upperMask have been used. Field i can hold any multiple of (i+1) from 0 to 5*(i+1).
+     */
+    static long reachableUpperSubtotals(int upperMask) {
+        long reachable = 1L;
+        for (int field=ScoreCard.SCORE_FIELD_ONES; field<=ScoreCard.SCORE_FIELD_SIXES; field++) {
+            if ((upperMask & (1 << field)) == 0) {
+                continue;
+            }
+            long next = 0L;
+            for (int subtotal=0; subtotal<=StateValueTable.UPPER_SUBTOTAL_CAP; subtotal++) {
+                if ((reachable & (1L << subtotal)) == 0) {
+                    continue;
+                }
+                for (int count=0; count<=5; count++) {
+                    next |= 1L << Math.min(subtotal + (count * (field + 1)), StateValueTable.UPPER_SUBTOTAL_CAP);
+                }
+            }
+            reachable = next;
+        }
+        return reachable;
+    }
+
+    /**
+     * Evaluates every reachable state of a group of field masks that belong to the same layer.
+     */
+    private static class LayerTask implements Callable<Void> {
+
+        private final StateValueTable table;
+        private final int[] masks;
+        private final int maskCount;
+
+        LayerTask(StateValueTable table, int[] masks, int maskCount) {
+            this.table = table;
+            this.masks = masks;
+            this.maskCount = maskCount;
+        }
+
+        @Override
+        public Void call() {
+            TurnEvaluator evaluator = new TurnEvaluator(table);
+            for (int i=0; i<maskCount; i++) {
+                int mask = masks[i];
+                long reachable = reachableUpperSubtotals(mask & ((1 << (ScoreCard.SCORE_FIELD_SIXES + 1)) - 1));
+                boolean yahtzeeUsed = (mask & (1 << ScoreCard.SCORE_FIELD_YAHTZEE)) != 0;
+                for (int subtotal=0; subtotal<=StateValueTable.UPPER_SUBTOTAL_CAP; subtotal++) {
+                    if ((reachable & (1L << subtotal)) == 0) {
+                        continue;
+                    }
+                    int state = StateValueTable.stateIndex(mask, subtotal, false);
+                    table.setValue(state, (float)evaluator.evaluateState(state));
+
+                    // The bonus flag can only be set once 50 points are in the Yahtzee field.
+                    if (yahtzeeUsed) {
+                        state = StateValueTable.stateIndex(mask, subtotal, true);
+                        table.setValue(state, (float)evaluator.evaluateState(state));
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: Solver <output file> [threads] [float32|int16]");
+            System.exit(1);
+        }
+        int threads = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int encoding = (args.length > 2 && args[2].equals("int16")) ? StateValueTable.ENCODING_INT16 : StateValueTable.ENCODING_FLOAT32;
+
+        long start = System.nanoTime();
+        StateValueTable table = solve(threads);
+        long elapsedMs = (System.nanoTime() - start) / 1000000L;
+
+        FileOutputStream out = new FileOutputStream(args[0]);
+        try {
+            table.write(out, encoding);
+        } finally {
+            out.close();
+        }
+
+        System.out.println("Solved in " + elapsedMs + " ms using " + threads + " threads.");
+        System.out.println("Expected score of a new game: " + table.getValue(StateValueTable.stateIndex(0, 0, false)));
+    }
+}
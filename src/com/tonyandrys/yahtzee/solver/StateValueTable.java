@@ -0,0 +1,251 @@
+package com.tonyandrys.yahtzee.solver;
+
+import com.tonyandrys.yahtzee.engine.GameState;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * com.tonyandrys.yahtzee.solver - StateValueTable
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Optimal expected final score still to be earned from every ScoreCard state at the start of a round.
+ *
+ * A state is the 13-bit mask of used fields, the upper section subtotal capped at ScoreCard.BONUS_THRESHOLD (0-63) and
+ * the Yahtzee bonus flag (true once the Yahtzee field holds 50 points). Only these affect future scoring, so the table
+ * has 2^13 * 64 * 2 entries indexed directly by stateIndex().
+ *
+ * Values live in a ByteBuffer laid out exactly like the file written by write(): a 32 byte little-endian header
+ * followed by one value per state, either a float32 or an unsigned int16 multiplied by the header's scale. A written
+ * table is opened with map(), which memory-maps the file without parsing it, so only the pages holding looked-up
+ * states are ever read from storage.
+ *
+ * File header:
+ *   0  int    MAGIC
+ *   4  int    VERSION
+ *   8  int    encoding (ENCODING_FLOAT32 or ENCODING_INT16)
+ *   12 int    STATE_COUNT
+ *   16 float  scale applied to int16 values (1 for float32)
+ *   20 int    CRC32 of the value section
+ *   24 long   reserved, 0
+ */
+public class StateValueTable {
+
+    // Bit layout of a state index: [yahtzee bonus flag][upper subtotal, 6 bits][field mask, 13 bits]
+    public static final int FIELD_MASK_BITS = ScoreCard.NUMBER_OF_FIELDS;
+    public static final int FULL_FIELD_MASK = (1 << FIELD_MASK_BITS) - 1;
+    public static final int UPPER_SUBTOTAL_BITS = 6;
+    public static final int UPPER_SUBTOTAL_CAP = ScoreCard.BONUS_THRESHOLD;
+    public static final int STATE_COUNT = 1 << (FIELD_MASK_BITS + UPPER_SUBTOTAL_BITS + 1);
+
+    // Value encodings
+    public static final int ENCODING_FLOAT32 = 0;
+    public static final int ENCODING_INT16 = 1;
+
+    // File header
+    private static final int MAGIC = 0x595A4556; // "YZEV"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 32;
+    private static final int OFFSET_VERSION = 4;
+    private static final int OFFSET_ENCODING = 8;
+    private static final int OFFSET_STATE_COUNT = 12;
+    private static final int OFFSET_SCALE = 16;
+    private static final int OFFSET_CHECKSUM = 20;
+
+    private final ByteBuffer buffer;
+    private final int encoding;
+    private final float scale;
+
+    /**
+     * Creates a writable, zero-filled float32 table on the heap, used while solving.
+     */
+    public StateValueTable() {
+        this.buffer = ByteBuffer.allocate(HEADER_SIZE + (STATE_COUNT * 4)).order(ByteOrder.LITTLE_ENDIAN);
+        this.encoding = ENCODING_FLOAT32;
+        this.scale = 1f;
+    }
+
+    private StateValueTable(ByteBuffer buffer, int encoding, float scale) {
+        this.buffer = buffer;
+        this.encoding = encoding;
+        this.scale = scale;
+    }
+
+    /**
+     * Returns the table index of a ScoreCard state.
+     * @param fieldMask bit i set if ScoreCard field i has been used
+     * @param upperSubtotal sum of the upper section fields, capped at UPPER_SUBTOTAL_CAP
+     * @param yahtzeeBonus true if the Yahtzee field holds 50 points, which makes later Yahtzees earn a bonus
+     */
+    public static int stateIndex(int fieldMask, int upperSubtotal, boolean yahtzeeBonus) {
+        return (yahtzeeBonus ? (1 << (FIELD_MASK_BITS + UPPER_SUBTOTAL_BITS)) : 0) | (upperSubtotal << FIELD_MASK_BITS) | fieldMask;
+    }
+
+    /**
+     * Returns the table index of the current state of a ScoreCard.
+     */
+    public static int stateIndex(ScoreCard card) {
+        return stateIndex(card.getUsedMask(), Math.min(card.getUpperSubtotal(), UPPER_SUBTOTAL_CAP), card.isYahtzeeApplied());
+    }
+
+    /**
+     * Returns the table index of the ScoreCard part of a packed GameState.
+     */
+    public static int stateIndex(long gameState) {
+        boolean yahtzeeBonus = GameState.getYahtzeeCount(gameState) > 0;
+        int upperSubtotal = Math.min(GameState.getUpperSubtotal(gameState), UPPER_SUBTOTAL_CAP);
+        return stateIndex(GameState.getFieldMask(gameState), upperSubtotal, yahtzeeBonus);
+    }
+
+    public static int getFieldMask(int stateIndex) {
+        return stateIndex & FULL_FIELD_MASK;
+    }
+
+    public static int getUpperSubtotal(int stateIndex) {
+        return (stateIndex >>> FIELD_MASK_BITS) & ((1 << UPPER_SUBTOTAL_BITS) - 1);
+    }
+
+    public static boolean hasYahtzeeBonus(int stateIndex) {
+        return (stateIndex >>> (FIELD_MASK_BITS + UPPER_SUBTOTAL_BITS)) != 0;
+    }
+
+    /**
+     * Returns the expected score still to be earned from a state when playing optimally.
+     * @param stateIndex index returned by stateIndex()
+     */
+    public float getValue(int stateIndex) {
+        if (encoding == ENCODING_FLOAT32) {
+            return buffer.getFloat(HEADER_SIZE + (stateIndex * 4));
+        } else {
+            return (buffer.getShort(HEADER_SIZE + (stateIndex * 2)) & 0xFFFF) * scale;
+        }
+    }
+
+    /**
+     * Sets the value of a state. Only tables created with the public constructor are writable.
+     */
+    public void setValue(int stateIndex, float value) {
+        buffer.putFloat(HEADER_SIZE + (stateIndex * 4), value);
+    }
+
+    public int getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Writes this table in the mappable file format.
+     * @param out stream to write to. It is flushed but not closed.
+     * @param fileEncoding ENCODING_FLOAT32 for exact values (4 MB) or ENCODING_INT16 for quantized values (2 MB)
+     */
+    public void write(OutputStream out, int fileEncoding) throws IOException {
+        int valueSize = (fileEncoding == ENCODING_INT16) ? 2 : 4;
+
+        // int16 values are scaled so the largest value in the table maps to 65535.
+        float fileScale = 1f;
+        if (fileEncoding == ENCODING_INT16) {
+            float max = 0f;
+            for (int i=0; i<STATE_COUNT; i++) {
+                max = Math.max(max, getValue(i));
+            }
+            fileScale = (max > 0f) ? (max / 0xFFFF) : 1f;
+        }
+
+        ByteBuffer values = ByteBuffer.allocate(STATE_COUNT * valueSize).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i=0; i<STATE_COUNT; i++) {
+            if (fileEncoding == ENCODING_INT16) {
+                values.putShort((short)Math.round(getValue(i) / fileScale));
+            } else {
+                values.putFloat(getValue(i));
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(values.array(), 0, values.capacity());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(fileEncoding).putInt(STATE_COUNT).putFloat(fileScale).putInt((int)crc.getValue()).putLong(0L);
+
+        out.write(header.array());
+        out.write(values.array());
+        out.flush();
+    }
+
+    /**
+     * Memory-maps a table file written by write().
+     * @param file table file
+     * @param verifyChecksum true to check the CRC32 of the values. This reads the whole file, so do it once after the
+     *                       file is installed rather than on every start.
+     * @throws java.io.IOException if the file is not a table of this version or fails its checksum
+     */
+    public static StateValueTable map(File file, boolean verifyChecksum) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            return map(raf.getChannel(), 0, raf.length(), verifyChecksum);
+        } finally {
+            // The mapping stays valid after its channel is closed.
+            raf.close();
+        }
+    }
+
+    /**
+     * Memory-maps a table stored in part of a file, such as an uncompressed asset inside an APK.
+     * @param channel channel of the file holding the table
+     * @param offset offset of the table in the file
+     * @param length length of the table in bytes
+     * @param verifyChecksum true to check the CRC32 of the values, which reads every page
+     * @throws java.io.IOException if the region is not a table of this version or fails its checksum
+     */
+    public static StateValueTable map(FileChannel channel, long offset, long length, boolean verifyChecksum) throws IOException {
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length).order(ByteOrder.LITTLE_ENDIAN);
+        return wrap(buffer, verifyChecksum);
+    }
+
+    /**
+     * Opens a table held in a buffer laid out like the file written by write().
+     * @throws java.io.IOException if the buffer is not a table of this version or fails its checksum
+     */
+    public static StateValueTable wrap(ByteBuffer buffer, boolean verifyChecksum) throws IOException {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a state value table");
+        }
+        if (buffer.getInt(OFFSET_VERSION) != VERSION) {
+            throw new IOException("Unsupported state value table version " + buffer.getInt(OFFSET_VERSION) + ", expected " + VERSION);
+        }
+        int fileEncoding = buffer.getInt(OFFSET_ENCODING);
+        if ((fileEncoding != ENCODING_FLOAT32 && fileEncoding != ENCODING_INT16) || buffer.getInt(OFFSET_STATE_COUNT) != STATE_COUNT) {
+            throw new IOException("Unsupported state value table layout");
+        }
+        int valueSize = (fileEncoding == ENCODING_INT16) ? 2 : 4;
+        if (buffer.capacity() != HEADER_SIZE + (STATE_COUNT * valueSize)) {
+            throw new IOException("Truncated state value table");
+        }
+
+        if (verifyChecksum) {
+            CRC32 crc = new CRC32();
+            byte[] chunk = new byte[1 << 16];
+            ByteBuffer values = buffer.duplicate();
+            values.position(HEADER_SIZE);
+            while (values.hasRemaining()) {
+                int n = Math.min(chunk.length, values.remaining());
+                values.get(chunk, 0, n);
+                crc.update(chunk, 0, n);
+            }
+            if ((int)crc.getValue() != buffer.getInt(OFFSET_CHECKSUM)) {
+                throw new IOException("State value table failed its checksum");
+            }
+        }
+        return new StateValueTable(buffer, fileEncoding, buffer.getFloat(OFFSET_SCALE));
+    }
+}
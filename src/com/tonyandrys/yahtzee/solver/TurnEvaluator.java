@@ -0,0 +1,185 @@
+package com.tonyandrys.yahtzee.solver;
+
+import com.tonyandrys.yahtzee.engine.HandTable;
+import com.tonyandrys.yahtzee.engine.Rules;
+import com.tonyandrys.yahtzee.engine.ScoreCard;
+
+/**
+ * com.tonyandrys.yahtzee.solver - TurnEvaluator
+ *
+ * @author Tony Andrys
+ *         Created: 10/18/2026
+ *         (C) 2013 - Tony Andrys
+ */
+
+/**
+ * Evaluates the roll/hold/score decision tree of a single round against a StateValueTable of future rounds.
+ *
+ * Hands are scored by Rules, the same as in the game engine, including the Yahtzee bonus and the forced joker rules.
+ *
+ * Scratch arrays are reused between calls, so an instance must only be used by one thread at a time.
+ */
+public class TurnEvaluator {
+
+    private final StateValueTable table;
+
+    // Scratch: value of each hand with no/one/two rolls left, and of each keep before a roll
+    private final double[] handValues0 = new double[HandTable.HAND_COUNT];
+    private final double[] handValues1 = new double[HandTable.HAND_COUNT];
+    private final double[] handValues2 = new double[HandTable.HAND_COUNT];
+    private final double[] keepValues = new double[KeepTable.KEEP_COUNT];
+
+    public TurnEvaluator(StateValueTable table) {
+        this.table = table;
+    }
+
+    public StateValueTable getTable() {
+        return table;
+    }
+
+    /**
+     * Computes the optimal expected score still to be earned from a state at the start of a round, reading the values
+     * of every later state from the table.
+     * @param stateIndex StateValueTable.stateIndex() of the state
+     */
+    public double evaluateState(int stateIndex) {
+        scoreHands(stateIndex, handValues0);
+        expectKeeps(handValues0, keepValues);
+        bestKeeps(keepValues, handValues1);
+        expectKeeps(handValues1, keepValues);
+        bestKeeps(keepValues, handValues2);
+        return expectKeep(handValues2, KeepTable.EMPTY_KEEP);
+    }
+
+    /**
+     * Fills handValues with the value of scoring each hand in its best field: points earned this round plus the value
+     * of the state that follows.
+     */
+    public void scoreHands(int stateIndex, double[] handValues) {
+        for (int h=0; h<HandTable.HAND_COUNT; h++) {
+            handValues[h] = scoreHand(stateIndex, h);
+        }
+    }
+
+    /**
+     * Returns the value of scoring a hand in its best field.
+     */
+    public double scoreHand(int stateIndex, int handIndex) {
+        double best = Double.NEGATIVE_INFINITY;
+        for (int field=0; field<ScoreCard.NUMBER_OF_FIELDS; field++) {
+            double value = getPlacementValue(stateIndex, handIndex, field);
+            if (value > best) {
+                best = value;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the field that maximizes the value of scoring a hand.
+     */
+    public int bestField(int stateIndex, int handIndex) {
+        double best = Double.NEGATIVE_INFINITY;
+        int bestField = -1;
+        for (int field=0; field<ScoreCard.NUMBER_OF_FIELDS; field++) {
+            double value = getPlacementValue(stateIndex, handIndex, field);
+            if (value > best) {
+                best = value;
+                bestField = field;
+            }
+        }
+        return bestField;
+    }
+
+    /**
+     * Returns the value of scoring a hand in a field: points (including bonuses) earned now plus the table value of the
+     * resulting state, or Double.NEGATIVE_INFINITY if the rules do not allow the hand to be scored there.
+     */
+    public double getPlacementValue(int stateIndex, int handIndex, int field) {
+        int earned = getEarnedPoints(stateIndex, handIndex, field);
+        if (earned == Rules.NOT_ALLOWED) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return earned + table.getValue(getNextState(stateIndex, handIndex, field));
+    }
+
+    /**
+     * Returns the points, including bonuses, earned by scoring a hand in a field, or Rules.NOT_ALLOWED if the field is
+     * used or the joker rules forbid it.
+     */
+    public static int getEarnedPoints(int stateIndex, int handIndex, int field) {
+        int fieldMask = StateValueTable.getFieldMask(stateIndex);
+        if ((fieldMask & (1 << field)) != 0) {
+            return Rules.NOT_ALLOWED;
+        }
+
+        int points = Rules.getPoints(fieldMask, handIndex, field);
+        if (points == Rules.NOT_ALLOWED) {
+            return Rules.NOT_ALLOWED;
+        }
+        int earned = points;
+
+        // A Yahtzee rolled after 50 points were scored in the Yahtzee field earns the bonus wherever it is placed.
+        if (Rules.earnsYahtzeeBonus(StateValueTable.hasYahtzeeBonus(stateIndex), handIndex)) {
+            earned += ScoreCard.VALUE_YAHTZEE_BONUS;
+        }
+        if (field <= ScoreCard.SCORE_FIELD_SIXES) {
+            earned += Rules.getUpperBonus(StateValueTable.getUpperSubtotal(stateIndex), points);
+        }
+        return earned;
+    }
+
+    /**
+     * Returns the state that follows scoring a hand in an open field the joker rules allow.
+     */
+    public static int getNextState(int stateIndex, int handIndex, int field) {
+        int fieldMask = StateValueTable.getFieldMask(stateIndex);
+        int upperSubtotal = StateValueTable.getUpperSubtotal(stateIndex);
+        boolean yahtzeeBonus = StateValueTable.hasYahtzeeBonus(stateIndex);
+        if (field <= ScoreCard.SCORE_FIELD_SIXES) {
+            int points = Rules.getPoints(fieldMask, handIndex, field);
+            upperSubtotal = Math.min(upperSubtotal + points, StateValueTable.UPPER_SUBTOTAL_CAP);
+        } else if (field == ScoreCard.SCORE_FIELD_YAHTZEE) {
+            yahtzeeBonus = (Rules.getPoints(fieldMask, handIndex, field) == ScoreCard.VALUE_YAHTZEE);
+        }
+        return StateValueTable.stateIndex(fieldMask | (1 << field), upperSubtotal, yahtzeeBonus);
+    }
+
+    /**
+     * Computes the expected value of every keep: the probability-weighted value of the hands rolling its free dice reaches.
+     */
+    public static void expectKeeps(double[] handValues, double[] keepValues) {
+        for (int k=0; k<KeepTable.KEEP_COUNT; k++) {
+            keepValues[k] = expectKeep(handValues, k);
+        }
+    }
+
+    /**
+     * Returns the expected value of rolling the free dice of one keep.
+     */
+    public static double expectKeep(double[] handValues, int keepIndex) {
+        double expected = 0;
+        int end = KeepTable.getOutcomeEnd(keepIndex);
+        for (int o=KeepTable.getOutcomeStart(keepIndex); o<end; o++) {
+            expected += KeepTable.getOutcomeProbability(o) * handValues[KeepTable.getOutcomeHand(o)];
+        }
+        return expected;
+    }
+
+    /**
+     * Computes the value of every hand before a roll: the value of the best keep that can be held from it.
+     */
+    public static void bestKeeps(double[] keepValues, double[] handValues) {
+        for (int h=0; h<HandTable.HAND_COUNT; h++) {
+            double best = Double.NEGATIVE_INFINITY;
+            int end = KeepTable.getHandKeepEnd(h);
+            for (int i=KeepTable.getHandKeepStart(h); i<end; i++) {
+                double value = keepValues[KeepTable.getHandKeep(i)];
+                if (value > best) {
+                    best = value;
+                }
+            }
+            handValues[h] = best;
+        }
+    }
+}